@@ -29,6 +29,7 @@ import cloud.commandframework.arguments.CommandSuggestionEngine;
 import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.DelegatingCommandSuggestionEngineFactory;
 import cloud.commandframework.arguments.StandardCommandSyntaxFormatter;
+import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.flags.CommandFlag;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.parser.ParserParameter;
@@ -38,18 +39,22 @@ import cloud.commandframework.captions.CaptionRegistry;
 import cloud.commandframework.captions.SimpleCaptionRegistryFactory;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.context.CommandContextFactory;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.context.StandardCommandContextFactory;
+import cloud.commandframework.execution.ArgumentTimingRecorder;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.execution.CommandResult;
 import cloud.commandframework.execution.CommandSuggestionProcessor;
+import cloud.commandframework.execution.ExecutionWatchdog;
 import cloud.commandframework.execution.FilteringCommandSuggestionProcessor;
+import cloud.commandframework.execution.SuggestionCache;
+import cloud.commandframework.execution.SuggestionSink;
 import cloud.commandframework.execution.postprocessor.AcceptingCommandPostprocessor;
 import cloud.commandframework.execution.postprocessor.CommandPostprocessingContext;
 import cloud.commandframework.execution.postprocessor.CommandPostprocessor;
 import cloud.commandframework.execution.preprocessor.AcceptingCommandPreprocessor;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessor;
-import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.permission.AndPermission;
@@ -60,14 +65,17 @@ import cloud.commandframework.permission.PredicatePermission;
 import cloud.commandframework.services.ServicePipeline;
 import cloud.commandframework.services.State;
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -98,6 +106,11 @@ public abstract class CommandManager<C> {
 
     private CommandSyntaxFormatter<C> commandSyntaxFormatter = new StandardCommandSyntaxFormatter<>();
     private CommandSuggestionProcessor<C> commandSuggestionProcessor = new FilteringCommandSuggestionProcessor<>();
+    private ArgumentTimingRecorder<C> argumentTimingRecorder = ArgumentTimingRecorder.noOp();
+    private SuggestionCache suggestionCache = SuggestionCache.create(SuggestionCache.DEFAULT_MAXIMUM_SIZE);
+    private @Nullable SuggestionSessions<C> suggestionSessions = null;
+    private @Nullable SuggestionCoalescer<C> suggestionCoalescer = null;
+    private @Nullable ExecutionWatchdog executionWatchdog = null;
     private CommandRegistrationHandler commandRegistrationHandler;
     private CaptionRegistry<C> captionRegistry;
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
@@ -169,12 +182,13 @@ public abstract class CommandManager<C> {
                 commandSender,
                 this
         );
-        final LinkedList<String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
+        final CommandInput commandInput = CommandInput.of(input);
+        /* Store a copy of the input in the context */
+        context.setCommandInput(commandInput.copy());
         try {
-            if (this.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-                return this.commandExecutionCoordinator.coordinateExecution(context, inputQueue);
+            final CommandPreprocessingContext<C> preprocessingContext = new CommandPreprocessingContext<>(context, commandInput);
+            if (this.preprocessContext(preprocessingContext) == State.ACCEPTED) {
+                return this.commandExecutionCoordinator.coordinateExecution(context, preprocessingContext.getInput());
             }
         } catch (final Exception e) {
             final CompletableFuture<CommandResult<C>> future = new CompletableFuture<>();
@@ -207,6 +221,104 @@ public abstract class CommandManager<C> {
         return this.commandSuggestionEngine.getSuggestions(context, input);
     }
 
+    /**
+     * Get command suggestions for the "next" argument that would yield a correctly parsing command input,
+     * without blocking until all the suggestions are available.
+     * <p>
+     * The command tree is traversed on the calling thread, and the returned future completes once the
+     * asynchronous suggestions of the visited arguments are available,
+     * see {@link ArgumentParser#suggestionsFuture(CommandContext, String)}
+     * <p>
+     * If a {@link SuggestionCoalescer} has been set, the request replaces the pending request of the same sender,
+     * whose future gets cancelled. Debounced requests are processed by the scheduler of the coalescer
+     *
+     * @param commandSender Sender of the command
+     * @param input         Input provided by the sender. Prefixes should be removed before the method is being called, and
+     *                      the input here will be passed directly to the command parsing pipeline, after having been tokenized.
+     * @return Future that completes with the list of suggestions
+     * @since 1.7.0
+     */
+    public @NonNull CompletableFuture<@NonNull List<@NonNull String>> suggestFuture(
+            final @NonNull C commandSender,
+            final @NonNull String input
+    ) {
+        final CommandContext<C> context = this.commandContextFactory.create(
+                true,
+                commandSender,
+                this
+        );
+        final SuggestionCoalescer<C> suggestionCoalescer = this.suggestionCoalescer;
+        if (suggestionCoalescer != null) {
+            return suggestionCoalescer.submit(
+                    commandSender,
+                    () -> this.commandSuggestionEngine.getSuggestionsFuture(context, input)
+            );
+        }
+        return this.commandSuggestionEngine.getSuggestionsFuture(context, input);
+    }
+
+    /**
+     * Push command suggestions for the "next" argument that would yield a correctly parsing command input
+     * into a sink. Suggestions flow from the literals and argument suggestion providers through the
+     * {@link CommandSuggestionProcessor} into the sink as they are produced, without collecting them into
+     * intermediate lists. The sink is completed once all suggestions have been pushed.
+     * <p>
+     * Requests made through this method are not coalesced by the {@link SuggestionCoalescer}
+     *
+     * @param commandSender Sender of the command
+     * @param input         Input provided by the sender. Prefixes should be removed before the method is being called, and
+     *                      the input here will be passed directly to the command parsing pipeline, after having been tokenized.
+     * @param sink          Sink to push the suggestions into
+     * @return Future that completes once the sink has been completed
+     * @since 1.7.0
+     */
+    public @NonNull CompletableFuture<@Nullable Void> suggest(
+            final @NonNull C commandSender,
+            final @NonNull String input,
+            final @NonNull SuggestionSink sink
+    ) {
+        final CommandContext<C> context = this.commandContextFactory.create(
+                true,
+                commandSender,
+                this
+        );
+        return this.commandSuggestionEngine.streamSuggestions(context, input, sink);
+    }
+
+    /**
+     * Get command suggestions for the "next" argument that would yield a correctly parsing command input,
+     * returning at most {@code limit} suggestions.
+     * <p>
+     * The limit is made available to suggestion providers and suggestion processors through
+     * {@link CommandContext#getSuggestionLimit()}, so that they can stop producing suggestions early.
+     * Processors such as {@link cloud.commandframework.execution.RankingCommandSuggestionProcessor} use it
+     * to only keep the best suggestions
+     *
+     * @param commandSender Sender of the command
+     * @param input         Input provided by the sender. Prefixes should be removed before the method is being called, and
+     *                      the input here will be passed directly to the command parsing pipeline, after having been tokenized.
+     * @param limit         Maximum amount of suggestions
+     * @return List of suggestions
+     * @since 1.7.0
+     */
+    public @NonNull List<@NonNull String> suggest(
+            final @NonNull C commandSender,
+            final @NonNull String input,
+            final int limit
+    ) {
+        final CommandContext<C> context = this.commandContextFactory.create(
+                true,
+                commandSender,
+                this
+        );
+        context.setSuggestionLimit(limit);
+        final List<String> suggestions = this.commandSuggestionEngine.getSuggestions(context, input);
+        if (suggestions.size() > limit) {
+            return new ArrayList<>(suggestions.subList(0, limit));
+        }
+        return suggestions;
+    }
+
     /**
      * Register a new command to the command manager and insert it into the underlying command tree. The command will be
      * forwarded to the {@link CommandRegistrationHandler} and will, depending on the platform, be forwarded to the platform.
@@ -220,14 +332,82 @@ public abstract class CommandManager<C> {
      *         return {@code this}.
      */
     public @NonNull CommandManager<C> command(final @NonNull Command<C> command) {
+        this.requireRegistrationAllowed();
+        this.commandTree.insertCommand(command);
+        this.commands.add(command);
+        return this;
+    }
+
+    /**
+     * Register a collection of commands to the command manager and insert them into the underlying command tree.
+     * This behaves like calling {@link #command(Command)} for each of the commands, but the command tree is only
+     * verified once, after all of the commands have been inserted. This should be preferred when registering
+     * a large amount of commands at once.
+     * <p>
+     * If any of the commands fail verification, the commands that were inserted before the failing command
+     * may remain in the command tree.
+     *
+     * @param commands Commands to register
+     * @return The command manager instance. This is returned so that these method calls may be chained. This will always
+     *         return {@code this}.
+     * @since 1.7.0
+     */
+    public @NonNull CommandManager<C> commands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        this.requireRegistrationAllowed();
+        this.commandTree.insertCommands(commands);
+        this.commands.addAll(commands);
+        return this;
+    }
+
+    /**
+     * Delete a root command, and all commands that are registered under it. The command is removed from the
+     * command tree, and the platform is asked to unregister it using
+     * {@link CommandRegistrationHandler#unregisterRootCommand(StaticArgument)}.
+     * <p>
+     * Requests that are being parsed while the command is deleted may still complete using the
+     * deleted command, if the command tree has been {@link CommandTree#compile() compiled}.
+     *
+     * @param rootCommand Name or alias of the root command
+     * @return {@code true} if a root command was deleted, else {@code false}
+     * @since 1.7.0
+     */
+    public boolean deleteRootCommand(final @NonNull String rootCommand) {
+        this.requireRegistrationAllowed();
+        final CommandTree.Node<@Nullable CommandArgument<C, ?>> node = this.commandTree.deleteRootNode(rootCommand);
+        if (node == null) {
+            return false;
+        }
+        final StaticArgument<?> argument = (StaticArgument<?>) node.getValue();
+        /* Every command builder creates its own root argument, so the commands are found through the removed nodes */
+        final Set<Command<C>> deletedCommands = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.collectOwningCommands(node, deletedCommands);
+        this.commands.removeIf(deletedCommands::contains);
+        for (final Command<C> deletedCommand : deletedCommands) {
+            deletedCommand.getArguments().forEach(this.argumentTimingRecorder::removeTimings);
+        }
+        this.commandRegistrationHandler.unregisterRootCommand(argument);
+        return true;
+    }
+
+    private void collectOwningCommands(
+            final CommandTree.@NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @NonNull Set<@NonNull Command<C>> commands
+    ) {
+        final CommandArgument<C, ?> argument = node.getValue();
+        if (argument != null && argument.getOwningCommand() != null) {
+            commands.add(argument.getOwningCommand());
+        }
+        for (final CommandTree.Node<CommandArgument<C, ?>> child : node.getChildren()) {
+            this.collectOwningCommands(child, commands);
+        }
+    }
+
+    private void requireRegistrationAllowed() {
         if (!(this.transitionIfPossible(RegistrationState.BEFORE_REGISTRATION, RegistrationState.REGISTERING)
                 || this.isCommandRegistrationAllowed())) {
             throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
                     + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
         }
-        this.commandTree.insertCommand(command);
-        this.commands.add(command);
-        return this;
     }
 
     /**
@@ -710,11 +890,27 @@ public abstract class CommandManager<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull LinkedList<@NonNull String> inputQueue
     ) {
-        this.servicePipeline.pump(new CommandPreprocessingContext<>(context, inputQueue))
+        return this.preprocessContext(new CommandPreprocessingContext<>(context, inputQueue));
+    }
+
+    /**
+     * Preprocess a command context instance. The input that should be parsed after the context
+     * has been preprocessed can be retrieved using {@link CommandPreprocessingContext#getInput()}
+     *
+     * @param preprocessingContext Preprocessing context
+     * @return {@link State#ACCEPTED} if the command should be parsed and executed, else {@link State#REJECTED}
+     * @see #registerCommandPreProcessor(CommandPreprocessor) Register a command preprocessor
+     * @since 1.7.0
+     */
+    public State preprocessContext(final @NonNull CommandPreprocessingContext<C> preprocessingContext) {
+        this.servicePipeline.pump(preprocessingContext)
                 .through(new TypeToken<CommandPreprocessor<C>>() {
                 })
                 .getResult();
-        return context.<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
+        return preprocessingContext.getCommandContext()
+                .<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY)
+                .orElse("")
+                .isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
     }
@@ -761,6 +957,119 @@ public abstract class CommandManager<C> {
         this.commandSuggestionProcessor = commandSuggestionProcessor;
     }
 
+    /**
+     * Get the recorder that receives the time it took to parse command arguments
+     *
+     * @return Argument timing recorder
+     * @see #setArgumentTimingRecorder(ArgumentTimingRecorder) Setting the timing recorder
+     * @since 1.7.0
+     */
+    public @NonNull ArgumentTimingRecorder<C> getArgumentTimingRecorder() {
+        return this.argumentTimingRecorder;
+    }
+
+    /**
+     * Set the recorder that receives the time it took to parse command arguments. By default,
+     * {@link ArgumentTimingRecorder#noOp()} is used and the parsing is not measured. Use
+     * {@link ArgumentTimingRecorder#contextRecorder()} to make the timings available through
+     * {@link CommandContext#getArgumentTimings()}
+     *
+     * @param argumentTimingRecorder New argument timing recorder
+     * @since 1.7.0
+     */
+    public void setArgumentTimingRecorder(final @NonNull ArgumentTimingRecorder<C> argumentTimingRecorder) {
+        this.argumentTimingRecorder = argumentTimingRecorder;
+    }
+
+    /**
+     * Get the cache that suggestions of context free parsers with static suggestions are served from
+     *
+     * @return Suggestion cache
+     * @see #setSuggestionCache(SuggestionCache) Setting the suggestion cache
+     * @since 1.7.0
+     */
+    public @NonNull SuggestionCache getSuggestionCache() {
+        return this.suggestionCache;
+    }
+
+    /**
+     * Set the cache that suggestions of context free parsers with static suggestions are served from.
+     * By default, a cache holding up to {@link SuggestionCache#DEFAULT_MAXIMUM_SIZE} suggestion lists
+     * is used. Use {@code SuggestionCache.create(0)} to disable the caching
+     *
+     * @param suggestionCache New suggestion cache
+     * @since 1.7.0
+     */
+    public void setSuggestionCache(final @NonNull SuggestionCache suggestionCache) {
+        this.suggestionCache = suggestionCache;
+    }
+
+    /**
+     * Get the sessions that allow suggestion requests to resume from the previous request of the same sender
+     *
+     * @return Suggestion sessions, or {@code null} if sessions are not used
+     * @see #setSuggestionSessions(SuggestionSessions) Setting the suggestion sessions
+     * @since 1.7.0
+     */
+    public @Nullable SuggestionSessions<C> getSuggestionSessions() {
+        return this.suggestionSessions;
+    }
+
+    /**
+     * Set the sessions that allow suggestion requests to resume from the previous request of the same sender.
+     * By default, no sessions are used and the complete input is parsed for every suggestion request
+     *
+     * @param suggestionSessions New suggestion sessions, or {@code null} to stop using sessions
+     * @since 1.7.0
+     */
+    public void setSuggestionSessions(final @Nullable SuggestionSessions<C> suggestionSessions) {
+        this.suggestionSessions = suggestionSessions;
+    }
+
+    /**
+     * Get the coalescer that supersedes pending suggestion requests made through {@link #suggestFuture(Object, String)}
+     *
+     * @return Suggestion coalescer, or {@code null} if requests are not coalesced
+     * @see #setSuggestionCoalescer(SuggestionCoalescer) Setting the suggestion coalescer
+     * @since 1.7.0
+     */
+    public @Nullable SuggestionCoalescer<C> getSuggestionCoalescer() {
+        return this.suggestionCoalescer;
+    }
+
+    /**
+     * Set the coalescer that supersedes pending suggestion requests made through {@link #suggestFuture(Object, String)}.
+     * By default, requests are not coalesced and every request is processed
+     *
+     * @param suggestionCoalescer New suggestion coalescer, or {@code null} to stop coalescing requests
+     * @since 1.7.0
+     */
+    public void setSuggestionCoalescer(final @Nullable SuggestionCoalescer<C> suggestionCoalescer) {
+        this.suggestionCoalescer = suggestionCoalescer;
+    }
+
+    /**
+     * Get the watchdog that times out command handlers that take too long to execute
+     *
+     * @return Execution watchdog, or {@code null} if command executions do not time out
+     * @see #setExecutionWatchdog(ExecutionWatchdog) Setting the execution watchdog
+     * @since 1.7.0
+     */
+    public @Nullable ExecutionWatchdog getExecutionWatchdog() {
+        return this.executionWatchdog;
+    }
+
+    /**
+     * Set the watchdog that times out command handlers that take too long to execute.
+     * By default, command executions do not time out
+     *
+     * @param executionWatchdog New execution watchdog, or {@code null} to stop timing out command executions
+     * @since 1.7.0
+     */
+    public void setExecutionWatchdog(final @Nullable ExecutionWatchdog executionWatchdog) {
+        this.executionWatchdog = executionWatchdog;
+    }
+
     /**
      * Get the parser registry instance. The parser registry contains default
      * mappings to {@link ArgumentParser}
@@ -1038,7 +1347,16 @@ public abstract class CommandManager<C> {
          *
          * @since 1.2.0
          */
-        OVERRIDE_EXISTING_COMMANDS
+        OVERRIDE_EXISTING_COMMANDS,
+
+        /**
+         * Do not fill in the stack trace of {@link cloud.commandframework.exceptions.InvalidSyntaxException invalid syntax
+         * exceptions} that are created when parsing command input. This makes failed parsing cheaper, at the cost of
+         * the stack trace not being available
+         *
+         * @since 1.7.0
+         */
+        STACKLESS_SYNTAX_EXCEPTIONS
     }
 
     /**
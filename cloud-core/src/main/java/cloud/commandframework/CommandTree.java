@@ -28,7 +28,11 @@ import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.compound.CompoundArgument;
 import cloud.commandframework.arguments.compound.FlagArgument;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
+import cloud.commandframework.execution.ArgumentTimingRecorder;
+import cloud.commandframework.execution.SuggestionSink;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
@@ -48,18 +52,25 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -106,6 +117,9 @@ public final class CommandTree<C> {
     private final Node<CommandArgument<C, ?>> internalTree = new Node<>(null);
     private final CommandManager<C> commandManager;
 
+    private volatile @Nullable Node<CommandArgument<C, ?>> compiledTree = null;
+    private volatile long modificationCount = 0L;
+
     private CommandTree(final @NonNull CommandManager<C> commandManager) {
         this.commandManager = commandManager;
     }
@@ -136,7 +150,7 @@ public final class CommandTree<C> {
                 new ArrayList<>(),
                 commandContext,
                 args,
-                this.internalTree
+                this.parseRoot()
         );
         if (pair.getFirst() != null) {
             final Command<C> command = pair.getFirst();
@@ -161,16 +175,12 @@ public final class CommandTree<C> {
             final @NonNull Queue<@NonNull String> commandQueue,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> root
     ) {
-        CommandPermission permission = this.isPermitted(commandContext.getSender(), root);
+        CommandPermission permission = this.isPermitted(commandContext, root);
         if (permission != null) {
             return Pair.of(null, new NoPermissionException(
                     permission,
                     commandContext.getSender(),
-                    this.getChain(root)
-                            .stream()
-                            .filter(node -> node.getValue() != null)
-                            .map(Node::getValue)
-                            .collect(Collectors.toList())
+                    this.lazyChain(root)
             ));
         }
 
@@ -192,87 +202,81 @@ public final class CommandTree<C> {
                     return Pair.of(this.cast(root.getValue().getOwningCommand()), null);
                 } else {
                     /* Too many arguments. We have a unique path, so we can send the entire context */
-                    return Pair.of(null, new InvalidSyntaxException(
-                            this.commandManager.getCommandSyntaxFormatter()
-                                    .apply(parsedArguments, root),
-                            commandContext.getSender(), this.getChain(root)
-                            .stream()
-                            .filter(node -> node.getValue() != null)
-                            .map(Node::getValue)
-                            .collect(Collectors.toList())
-                    ));
+                    return Pair.of(null, this.invalidSyntax(commandContext, parsedArguments, root, root));
                 }
             } else {
                 /* Too many arguments. We have a unique path, so we can send the entire context */
-                return Pair.of(null, new InvalidSyntaxException(
-                        this.commandManager.getCommandSyntaxFormatter()
-                                .apply(parsedArguments, root),
-                        commandContext.getSender(), this.getChain(root)
-                        .stream()
-                        .filter(node -> node.getValue() != null)
-                        .map(Node::getValue)
-                        .collect(Collectors.toList())
-                ));
+                return Pair.of(null, this.invalidSyntax(commandContext, parsedArguments, root, root));
             }
         } else {
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = root.getChildren().iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        final CommandArgument<C, ?> argument = child.getValue();
-                        final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
-
-                        argumentTiming.setStart(System.nanoTime());
-                        commandContext.setCurrentArgument(argument);
-                        final ArgumentParseResult<?> result = argument.getParser().parse(commandContext, commandQueue);
-                        argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
-
-                        if (result.getParsedValue().isPresent()) {
-                            parsedArguments.add(child.getValue());
-                            return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
-                        }
-                    }
+            /*
+             * Any dynamic child would have been handled by attemptParseUnambiguousChild, so the only
+             * child that can accept the input is the literal that is indexed under the next token
+             */
+            final Node<CommandArgument<C, ?>> child = root.getLiteralChild(commandQueue.peek());
+            if (child != null && child.getValue() != null) {
+                final CommandArgument<C, ?> argument = child.getValue();
+                final ArgumentTimingRecorder<C> timingRecorder = this.commandManager.getArgumentTimingRecorder();
+                final long start = timingRecorder.isEnabled() ? System.nanoTime() : 0L;
+
+                commandContext.setCurrentArgument(argument);
+                final ArgumentParseResult<?> result = this.parseArgument(commandContext, argument.getParser(), commandQueue);
+                if (timingRecorder.isEnabled()) {
+                    timingRecorder.recordTiming(commandContext, argument, start, System.nanoTime(), !result.getFailure().isPresent());
+                }
+
+                if (result.getParsedValue().isPresent()) {
+                    parsedArguments.add(child.getValue());
+                    return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                 }
             }
             /* We could not find a match */
-            if (root.equals(this.internalTree)) {
+            if (root.getParent() == null) {
+                final String suppliedCommand = this.stringOrEmpty(commandQueue.peek());
                 return Pair.of(null, new NoSuchCommandException(
                         commandContext.getSender(),
-                        this.getChain(root).stream().map(Node::getValue).collect(Collectors.toList()),
-                        this.stringOrEmpty(commandQueue.peek())
+                        () -> this.getChain(root).stream().map(Node::getValue).collect(Collectors.toList()),
+                        suppliedCommand,
+                        () -> this.getCloseCommands(commandContext, root, suppliedCommand)
                 ));
             }
             /* If we couldn't match a child, check if there's a command attached and execute it */
             if (root.getValue() != null && root.getValue().getOwningCommand() != null && commandQueue.isEmpty()) {
                 final Command<C> command = root.getValue().getOwningCommand();
-                if (!this.getCommandManager().hasPermission(
-                        commandContext.getSender(),
-                        command.getCommandPermission()
-                )) {
+                if (!commandContext.hasPermission(command.getCommandPermission())) {
                     return Pair.of(null, new NoPermissionException(
                             command.getCommandPermission(),
                             commandContext.getSender(),
-                            this.getChain(root)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
+                            this.lazyChain(root)
                     ));
                 }
                 return Pair.of(root.getValue().getOwningCommand(), null);
             }
             /* We know that there's no command and we also cannot match any of the children */
-            return Pair.of(null, new InvalidSyntaxException(
-                    this.commandManager.getCommandSyntaxFormatter()
-                            .apply(parsedArguments, root),
-                    commandContext.getSender(), this.getChain(root)
-                    .stream()
-                    .filter(node -> node.getValue() != null)
-                    .map(Node::getValue)
-                    .collect(Collectors.toList())
-            ));
+            return Pair.of(null, this.invalidSyntax(commandContext, parsedArguments, root, root));
+        }
+    }
+
+    /**
+     * Get the aliases of the literal children that are close to the supplied input, and that the sender
+     * is permitted to use
+     *
+     * @param commandContext  Command context
+     * @param root            Node that did not have a literal child matching the input
+     * @param suppliedCommand Supplied input
+     * @return Close aliases, at most {@link NoSuchCommandException#MAXIMUM_CLOSE_MATCHES}
+     */
+    private @NonNull List<@NonNull String> getCloseCommands(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> root,
+            final @NonNull String suppliedCommand
+    ) {
+        final List<String> closeCommands = root.getCloseLiterals(suppliedCommand, Integer.MAX_VALUE);
+        closeCommands.removeIf(alias -> this.isPermitted(commandContext, root.getLiteralChild(alias)) != null);
+        if (closeCommands.size() > NoSuchCommandException.MAXIMUM_CLOSE_MATCHES) {
+            return new ArrayList<>(closeCommands.subList(0, NoSuchCommandException.MAXIMUM_CLOSE_MATCHES));
         }
+        return closeCommands;
     }
 
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> attemptParseUnambiguousChild(
@@ -286,42 +290,35 @@ public final class CommandTree<C> {
 
         // Check whether it matches any of the static arguments
         // If so, do not attempt parsing as a dynamic argument
-        if (!commandQueue.isEmpty()) {
-            final String literal = commandQueue.peek();
-            final boolean matchesLiteral = children.stream()
-                .filter(n -> n.getValue() instanceof StaticArgument)
-                .map(n -> (StaticArgument<?>) n.getValue())
-                .flatMap(arg -> Stream.concat(Stream.of(arg.getName()), arg.getAliases().stream()))
-                .anyMatch(arg -> arg.equals(literal));
-
-            if (matchesLiteral) {
-                return Pair.of(null, null);
-            }
+        if (root.getLiteralChild(commandQueue.peek()) != null) {
+            return Pair.of(null, null);
         }
 
         // If it does not match a literal, try to find the one argument node, if it exists
         // The ambiguity check guarantees that only one will be present
-        final List<Node<CommandArgument<C, ?>>> argumentNodes = children.stream()
-                .filter(n -> (n.getValue() != null && !(n.getValue() instanceof StaticArgument)))
-                .collect(Collectors.toList());
+        Node<CommandArgument<C, ?>> argumentNode = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Node<CommandArgument<C, ?>> node = children.get(i);
+            if (node.getValue() == null || node.getValue() instanceof StaticArgument) {
+                continue;
+            }
+            if (argumentNode != null) {
+                throw new IllegalStateException("Unexpected ambiguity detected, number of "
+                        + "dynamic child nodes should not exceed 1");
+            }
+            argumentNode = node;
+        }
 
-        if (argumentNodes.size() > 1) {
-            throw new IllegalStateException("Unexpected ambiguity detected, number of "
-                    + "dynamic child nodes should not exceed 1");
-        } else if (!argumentNodes.isEmpty()) {
-            final Node<CommandArgument<C, ?>> child = argumentNodes.get(0);
+        if (argumentNode != null) {
+            final Node<CommandArgument<C, ?>> child = argumentNode;
 
             // The value has to be a variable
-            permission = this.isPermitted(commandContext.getSender(), child);
+            permission = this.isPermitted(commandContext, child);
             if (!commandQueue.isEmpty() && permission != null) {
                 return Pair.of(null, new NoPermissionException(
                         permission,
                         commandContext.getSender(),
-                        this.getChain(child)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                        this.lazyChain(child)
                 ));
             }
             if (child.getValue() != null) {
@@ -330,89 +327,51 @@ public final class CommandTree<C> {
                         commandQueue.add(child.getValue().getDefaultValue());
                     } else if (!child.getValue().isRequired()) {
                         if (child.getValue().getOwningCommand() == null) {
-                            /*
-                             * If there are multiple children with different owning commands then it's ambiguous and
-                             * not allowed, therefore we're able to pick any child command, as long as we can find it
-                             */
-                            Node<CommandArgument<C, ?>> node = child;
-                            while (!node.isLeaf()) {
-                                node = node.getChildren().get(0);
-                                if (node.getValue() != null && node.getValue().getOwningCommand() != null) {
-                                    child.getValue().setOwningCommand(node.getValue().getOwningCommand());
-                                }
-                            }
+                            this.resolveOwningCommand(child);
                         }
                         return Pair.of(child.getValue().getOwningCommand(), null);
                     } else if (child.isLeaf()) {
                         if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                             final Command<C> command = root.getValue().getOwningCommand();
-                            if (!this.getCommandManager().hasPermission(
-                                    commandContext.getSender(),
-                                    command.getCommandPermission()
-                            )) {
+                            if (!commandContext.hasPermission(command.getCommandPermission())) {
                                 return Pair.of(null, new NoPermissionException(
                                         command.getCommandPermission(),
                                         commandContext.getSender(),
-                                        this.getChain(root)
-                                                .stream()
-                                                .filter(node -> node.getValue() != null)
-                                                .map(Node::getValue)
-                                                .collect(Collectors.toList())
+                                        this.lazyChain(root)
                                 ));
                             }
                             return Pair.of(command, null);
                         }
                         /* Not enough arguments */
-                        return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.getCommandSyntaxFormatter()
-                                        .apply(Objects.requireNonNull(
-                                                child.getValue()
-                                                        .getOwningCommand())
-                                                .getArguments(), child),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                        return Pair.of(null, this.invalidSyntax(
+                                commandContext,
+                                Objects.requireNonNull(child.getValue().getOwningCommand()).getArguments(),
+                                child,
+                                root
                         ));
                     } else {
                         /* The child is not a leaf, but may have an intermediary executor, attempt to use it */
                         if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                             final Command<C> command = root.getValue().getOwningCommand();
-                            if (!this.getCommandManager().hasPermission(
-                                    commandContext.getSender(),
-                                    command.getCommandPermission()
-                            )) {
+                            if (!commandContext.hasPermission(command.getCommandPermission())) {
                                 return Pair.of(null, new NoPermissionException(
                                         command.getCommandPermission(),
                                         commandContext.getSender(),
-                                        this.getChain(root)
-                                                .stream()
-                                                .filter(node -> node.getValue() != null)
-                                                .map(Node::getValue)
-                                                .collect(Collectors.toList())
+                                        this.lazyChain(root)
                                 ));
                             }
                             return Pair.of(command, null);
                         }
                         /* Child does not have a command and so we cannot proceed */
-                        return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.getCommandSyntaxFormatter()
-                                        .apply(parsedArguments, root),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
-                        ));
+                        return Pair.of(null, this.invalidSyntax(commandContext, parsedArguments, root, root));
                     }
                 }
 
                 final CommandArgument<C, ?> argument = child.getValue();
-                final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+                final ArgumentTimingRecorder<C> timingRecorder = this.commandManager.getArgumentTimingRecorder();
 
                 // START: Parsing
-                argumentTiming.setStart(System.nanoTime());
+                final long start = timingRecorder.isEnabled() ? System.nanoTime() : 0L;
                 final ArgumentParseResult<?> result;
                 final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
                         commandContext,
@@ -420,29 +379,23 @@ public final class CommandTree<C> {
                 );
                 if (!preParseResult.getFailure().isPresent() && preParseResult.getParsedValue().orElse(false)) {
                     commandContext.setCurrentArgument(argument);
-                    result = argument.getParser().parse(commandContext, commandQueue);
+                    result = this.parseArgument(commandContext, argument.getParser(), commandQueue);
                 } else {
                     result = preParseResult;
                 }
-                argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
+                if (timingRecorder.isEnabled()) {
+                    timingRecorder.recordTiming(commandContext, argument, start, System.nanoTime(), !result.getFailure().isPresent());
+                }
                 // END: Parsing
 
                 if (result.getParsedValue().isPresent()) {
-                    commandContext.store(child.getValue().getName(), result.getParsedValue().get());
+                    this.storeArgument(commandContext, child.getValue(), result.getParsedValue().get());
                     if (child.isLeaf()) {
                         if (commandQueue.isEmpty()) {
                             return Pair.of(this.cast(child.getValue().getOwningCommand()), null);
                         } else {
                             /* Too many arguments. We have a unique path, so we can send the entire context */
-                            return Pair.of(null, new InvalidSyntaxException(
-                                    this.commandManager.getCommandSyntaxFormatter()
-                                            .apply(parsedArguments, child),
-                                    commandContext.getSender(), this.getChain(root)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
-                            ));
+                            return Pair.of(null, this.invalidSyntax(commandContext, parsedArguments, child, root));
                         }
                     } else {
                         parsedArguments.add(child.getValue());
@@ -475,98 +428,220 @@ public final class CommandTree<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue
     ) {
-        return this.getSuggestions(context, commandQueue, this.internalTree);
+        return this.join(this.getSuggestionsFuture(context, commandQueue));
     }
 
-    @SuppressWarnings("MixedMutabilityReturnType")
-    private @NonNull List<@NonNull String> getSuggestions(
-            final @NonNull CommandContext<C> commandContext,
+    /**
+     * Get suggestions from the input queue asynchronously. The tree is traversed on the calling thread,
+     * and the returned future completes once the suggestions of all the visited arguments are available,
+     * see {@link ArgumentParser#suggestionsFuture(CommandContext, String)}
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue
+     * @return Future that completes with the string suggestions. These should be filtered based on
+     *         {@link String#startsWith(String)}
+     * @since 1.7.0
+     */
+    public @NonNull CompletableFuture<@NonNull List<@NonNull String>> getSuggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Queue<@NonNull String> commandQueue
+    ) {
+        return this.collectSuggestions(context, commandQueue, null);
+    }
+
+    /**
+     * Get suggestions from the input queue, using the suggestion session of the sender. If the input
+     * extends the input that the session was recorded for, the suggestions are computed from the node
+     * that the previous input was parsed to, using the values that were parsed along the way. The session
+     * is then updated to point at the deepest node that the input could be parsed to
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue
+     * @param sessions     Suggestion sessions
+     * @return String suggestions. These should be filtered based on {@link String#startsWith(String)}
+     * @since 1.7.0
+     */
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> root
+            final @NonNull SuggestionSessions<C> sessions
+    ) {
+        return this.join(this.getSuggestionsFuture(context, commandQueue, sessions));
+    }
+
+    /**
+     * Get suggestions from the input queue asynchronously, using the suggestion session of the sender.
+     * See {@link #getSuggestions(CommandContext, Queue, SuggestionSessions)} and
+     * {@link #getSuggestionsFuture(CommandContext, Queue)}
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue
+     * @param sessions     Suggestion sessions
+     * @return Future that completes with the string suggestions. These should be filtered based on
+     *         {@link String#startsWith(String)}
+     * @since 1.7.0
+     */
+    public @NonNull CompletableFuture<@NonNull List<@NonNull String>> getSuggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @NonNull SuggestionSessions<C> sessions
     ) {
-        /* If the sender isn't allowed to access the root node, no suggestions are needed */
-        if (this.isPermitted(commandContext.getSender(), root) != null) {
-            return Collections.emptyList();
+        return this.collectSuggestions(context, commandQueue, sessions);
+    }
+
+    /**
+     * Push suggestions from the input queue into a sink. The suggestions of literals and argument suggestion
+     * providers are pushed as soon as they are available, and the traversal stops once the sink no longer
+     * accepts suggestions. The tree is traversed on the calling thread, and suggestions of asynchronous
+     * providers are pushed once they complete. The sink is not completed by the tree.
+     * <p>
+     * If suggestion sessions are given, the traversal may resume from the session of the sender,
+     * see {@link #getSuggestions(CommandContext, Queue, SuggestionSessions)}
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue
+     * @param sessions     Suggestion sessions, or {@code null} to traverse the tree from the root
+     * @param sink         Sink to push the suggestions into. The suggestions should be filtered based on
+     *                     {@link String#startsWith(String)}
+     * @return Future that completes once all suggestions have been pushed
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull CompletableFuture<@Nullable Void> streamSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @Nullable SuggestionSessions<C> sessions,
+            final @NonNull SuggestionSink sink
+    ) {
+        final SuggestionStream stream = new SuggestionStream(sink);
+        if (sessions == null) {
+            return this.getSuggestions(context, commandQueue, this.parseRoot(), null, stream);
         }
-        final List<Node<CommandArgument<C, ?>>> children = root.getChildren();
 
-        /* Calculate a list of arguments that are static literals */
-        final List<Node<CommandArgument<C, ?>>> staticArguments = children.stream()
-                .filter(n -> n.getValue() instanceof StaticArgument)
-                .collect(Collectors.toList());
+        final SuggestionWalk<C> walk = new SuggestionWalk<>(new ArrayList<>(commandQueue), this.modificationCount);
+        Node<CommandArgument<C, ?>> root = this.parseRoot();
+
+        final Object checkpoint = sessions.getCheckpoint(context.getSender());
+        if (checkpoint instanceof SuggestionCheckpoint && walk.canResumeFrom((SuggestionCheckpoint<C>) checkpoint)) {
+            final SuggestionCheckpoint<C> resumedCheckpoint = (SuggestionCheckpoint<C>) checkpoint;
+            for (final Pair<CommandArgument<C, ?>, Object> parsedValue : resumedCheckpoint.values) {
+                if (!context.contains(parsedValue.getFirst().getKey())) {
+                    this.storeArgument(context, parsedValue.getFirst(), parsedValue.getSecond());
+                }
+            }
+            for (int i = 0; i < resumedCheckpoint.tokens.size(); i++) {
+                commandQueue.remove();
+            }
+            root = resumedCheckpoint.node;
+            walk.checkpoint = resumedCheckpoint;
+        }
+
+        final CompletableFuture<Void> suggestions = this.getSuggestions(context, commandQueue, root, walk, stream);
+        sessions.setCheckpoint(context.getSender(), walk.checkpoint);
+        return suggestions;
+    }
+
+    private @NonNull CompletableFuture<@NonNull List<@NonNull String>> collectSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @Nullable SuggestionSessions<C> sessions
+    ) {
+        /* The suggestions are not filtered yet, so the suggestion limit is applied by the caller after processing */
+        final List<String> suggestions = new ArrayList<>();
+        return this.streamSuggestions(context, commandQueue, sessions, SuggestionSink.collecting(suggestions))
+                .thenApply(ignored -> suggestions);
+    }
+
+    private <T> T join(final @NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private @NonNull CompletableFuture<@Nullable Void> getSuggestions(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> root,
+            final @Nullable SuggestionWalk<C> walk,
+            final @NonNull SuggestionStream stream
+    ) {
+        /* If the sender isn't allowed to access the root node, or the sink is full, no suggestions are needed */
+        if (!stream.isOpen() || this.isPermitted(commandContext, root) != null) {
+            return CompletableFuture.completedFuture(null);
+        }
 
         /*
          * Try to see if any of the static literals can be parsed (matches exactly)
          * If so, enter that node of the command tree for deeper suggestions
          */
-        if (!staticArguments.isEmpty() && !commandQueue.isEmpty()) {
-            final Queue<String> commandQueueCopy = new LinkedList<String>(commandQueue);
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = staticArguments.iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        commandContext.setCurrentArgument(child.getValue());
-                        final ArgumentParseResult<?> result = child.getValue().getParser().parse(
-                                commandContext,
-                                commandQueue
-                        );
-                        if (result.getParsedValue().isPresent()) {
-                            // If further arguments are specified, dive into this literal
-                            if (!commandQueue.isEmpty()) {
-                                return this.getSuggestions(commandContext, commandQueue, child);
-                            }
-
-                            // We've already matched one exactly, no use looking further
-                            break;
-                        }
-                    }
+        final Node<CommandArgument<C, ?>> literalChild = root.getLiteralChild(commandQueue.peek());
+        if (literalChild != null && literalChild.getValue() != null && commandQueue.size() > 1) {
+            final Object mark = this.markQueue(commandQueue);
+            commandContext.setCurrentArgument(literalChild.getValue());
+            final ArgumentParseResult<?> result = this.parseArgument(
+                    commandContext,
+                    literalChild.getValue().getParser(),
+                    commandQueue
+            );
+            // If further arguments are specified, dive into this literal
+            if (result.getParsedValue().isPresent() && !commandQueue.isEmpty()) {
+                if (walk != null) {
+                    walk.record(literalChild, commandQueue.size(), commandContext);
                 }
+                return this.getSuggestions(commandContext, commandQueue, literalChild, walk, stream);
             }
 
             // Restore original queue
-            commandQueue.clear();
-            commandQueue.addAll(commandQueueCopy);
+            this.rewindQueue(commandQueue, mark);
         }
 
-        /* Calculate suggestions for the literal arguments */
-        final List<String> suggestions = new LinkedList<>();
+        /* Push suggestions for the literal arguments, using the sorted index of literal names */
         if (commandQueue.size() <= 1) {
             final String literalValue = this.stringOrEmpty(commandQueue.peek());
-            for (final Node<CommandArgument<C, ?>> argument : staticArguments) {
-                if (this.isPermitted(commandContext.getSender(), argument) != null) {
-                    continue;
+            for (final Map.Entry<String, Node<CommandArgument<C, ?>>> entry
+                    : root.getLiteralChildrenByName().tailMap(literalValue, false).entrySet()) {
+                if (!entry.getKey().startsWith(literalValue)) {
+                    break;
                 }
-                commandContext.setCurrentArgument(argument.getValue());
-                final List<String> suggestionsToAdd = argument.getValue().getSuggestionsProvider()
-                        .apply(commandContext, literalValue);
-                for (String suggestion : suggestionsToAdd) {
-                    if (suggestion.equals(literalValue) || !suggestion.startsWith(literalValue)) {
-                        continue;
-                    }
-                    suggestions.add(suggestion);
+                if (this.isPermitted(commandContext, entry.getValue()) == null && !stream.push(entry.getKey())) {
+                    break;
                 }
             }
         }
 
-        /* Calculate suggestions for the variable argument, if one exists */
+        /* Push suggestions for the variable argument, if one exists */
+        CompletableFuture<Void> future = null;
         for (final Node<CommandArgument<C, ?>> child : root.getChildren()) {
             if (child.getValue() != null && !(child.getValue() instanceof StaticArgument)) {
-                suggestions.addAll(this.suggestionsForDynamicArgument(commandContext, commandQueue, child));
+                final CompletableFuture<Void> argumentSuggestions = this.suggestionsForDynamicArgument(
+                        commandContext,
+                        commandQueue,
+                        child,
+                        walk,
+                        stream
+                );
+                future = future == null ? argumentSuggestions : future.thenCombine(argumentSuggestions, (first, second) -> null);
             }
         }
 
-        return suggestions;
+        return future == null ? CompletableFuture.completedFuture(null) : future;
     }
 
-    private @NonNull List<@NonNull String> suggestionsForDynamicArgument(
+    private @NonNull CompletableFuture<@Nullable Void> suggestionsForDynamicArgument(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> child
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> child,
+            final @Nullable SuggestionWalk<C> walk,
+            final @NonNull SuggestionStream stream
     ) {
-        /* If argument has no value associated, break out early */
-        if (child.getValue() == null) {
-            return Collections.emptyList();
+        /* If argument has no value associated, or the sink is full, break out early */
+        if (child.getValue() == null || !stream.isOpen()) {
+            return CompletableFuture.completedFuture(null);
         }
 
         /* When we get in here, we need to treat compound arguments a little differently */
@@ -604,32 +679,29 @@ public final class CommandTree<C> {
         } else if (commandQueue.size() <= child.getValue().getParser().getRequestedArgumentCount()) {
             for (int i = 0; i < child.getValue().getParser().getRequestedArgumentCount() - 1
                     && commandQueue.size() > 1; i++) {
-                commandContext.store(
-                        String.format("%s_%d", child.getValue().getName(), i),
-                        commandQueue.remove()
-                );
+                commandContext.store(child.getValue().getName() + "_" + i, commandQueue.remove());
             }
         }
 
         if (commandQueue.isEmpty()) {
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(null);
         } else if (child.isLeaf() && commandQueue.size() < 2) {
             commandContext.setCurrentArgument(child.getValue());
-            return child.getValue().getSuggestionsProvider().apply(commandContext, commandQueue.peek());
+            return stream.pushAll(child.getValue().getSuggestionsFuture(commandContext, commandQueue.peek()));
         } else if (child.isLeaf()) {
             if (child.getValue() instanceof CompoundArgument) {
-                final String last = ((LinkedList<String>) commandQueue).getLast();
+                final String last = this.lastToken(commandQueue);
                 commandContext.setCurrentArgument(child.getValue());
-                return child.getValue().getSuggestionsProvider().apply(commandContext, last);
+                return stream.pushAll(child.getValue().getSuggestionsFuture(commandContext, last));
             }
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(null);
         } else if (commandQueue.peek().isEmpty()) {
             commandContext.setCurrentArgument(child.getValue());
-            return child.getValue().getSuggestionsProvider().apply(commandContext, commandQueue.remove());
+            return stream.pushAll(child.getValue().getSuggestionsFuture(commandContext, commandQueue.remove()));
         }
 
-        // Store original input command queue before the parsers below modify it
-        final Queue<String> commandQueueOriginal = new LinkedList<>(commandQueue);
+        // Mark the original input command queue before the parsers below modify it
+        final Object mark = this.markQueue(commandQueue);
 
         // START: Preprocessing
         final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
@@ -643,21 +715,111 @@ public final class CommandTree<C> {
         if (preParseSuccess) {
             // START: Parsing
             commandContext.setCurrentArgument(child.getValue());
-            final ArgumentParseResult<?> result = child.getValue().getParser().parse(commandContext, commandQueue);
+            final ArgumentParseResult<?> result = this.parseArgument(commandContext, child.getValue().getParser(), commandQueue);
             if (result.getParsedValue().isPresent() && !commandQueue.isEmpty()) {
-                commandContext.store(child.getValue().getName(), result.getParsedValue().get());
-                return this.getSuggestions(commandContext, commandQueue, child);
+                this.storeArgument(commandContext, child.getValue(), result.getParsedValue().get());
+                if (walk != null) {
+                    walk.record(child, commandQueue.size(), commandContext);
+                }
+                return this.getSuggestions(commandContext, commandQueue, child, walk, stream);
             }
             // END: Parsing
         }
 
         // Restore original command input queue
-        commandQueue.clear();
-        commandQueue.addAll(commandQueueOriginal);
+        this.rewindQueue(commandQueue, mark);
 
         // Fallback: use suggestion provider of argument
         commandContext.setCurrentArgument(child.getValue());
-        return child.getValue().getSuggestionsProvider().apply(commandContext, this.stringOrEmpty(commandQueue.peek()));
+        return stream.pushAll(child.getValue().getSuggestionsFuture(commandContext, this.stringOrEmpty(commandQueue.peek())));
+    }
+
+    /**
+     * Mark the position of an input queue. Command input is marked using its cursor, other queues are copied
+     */
+    private @NonNull Object markQueue(final @NonNull Queue<@NonNull String> commandQueue) {
+        if (commandQueue instanceof CommandInput) {
+            return ((CommandInput) commandQueue).mark();
+        }
+        return new ArrayList<>(commandQueue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rewindQueue(final @NonNull Queue<@NonNull String> commandQueue, final @NonNull Object mark) {
+        if (mark instanceof CommandInput.Mark) {
+            ((CommandInput) commandQueue).rewind((CommandInput.Mark) mark);
+        } else {
+            commandQueue.clear();
+            commandQueue.addAll((List<String>) mark);
+        }
+    }
+
+    /**
+     * Stores a parsed argument value. If the argument has been assigned a slot, the value is stored in the
+     * matching context slot, otherwise it is stored by the argument key.
+     */
+    @SuppressWarnings("unchecked")
+    private void storeArgument(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull Object value
+    ) {
+        final CloudKey<Object> key = (CloudKey<Object>) argument.getKey();
+        final int slot = argument.getSlot();
+        if (slot >= 0) {
+            commandContext.store(slot, key, value);
+        } else {
+            commandContext.store(key, value);
+        }
+    }
+
+    private @NonNull ArgumentParseResult<?> parseArgument(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull ArgumentParser<C, ?> parser,
+            final @NonNull Queue<@NonNull String> commandQueue
+    ) {
+        if (commandQueue instanceof CommandInput) {
+            return parser.parse(commandContext, (CommandInput) commandQueue);
+        }
+        return parser.parse(commandContext, commandQueue);
+    }
+
+    private @NonNull String lastToken(final @NonNull Queue<@NonNull String> commandQueue) {
+        if (commandQueue instanceof Deque) {
+            return ((Deque<String>) commandQueue).getLast();
+        }
+        String last = null;
+        for (final String token : commandQueue) {
+            last = token;
+        }
+        if (last == null) {
+            throw new NoSuchElementException();
+        }
+        return last;
+    }
+
+    private @NonNull InvalidSyntaxException invalidSyntax(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull List<@NonNull CommandArgument<C, ?>> arguments,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> syntaxNode,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> chainNode
+    ) {
+        return new InvalidSyntaxException(
+                () -> this.commandManager.getCommandSyntaxFormatter().apply(arguments, syntaxNode),
+                commandContext.getSender(),
+                this.lazyChain(chainNode),
+                !this.commandManager.getSetting(CommandManager.ManagerSettings.STACKLESS_SYNTAX_EXCEPTIONS)
+        );
+    }
+
+    private @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> lazyChain(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        return () -> this.getChain(node)
+                .stream()
+                .filter(chainNode -> chainNode.getValue() != null)
+                .map(Node::getValue)
+                .collect(Collectors.toList());
     }
 
     private @NonNull String stringOrEmpty(final @Nullable String string) {
@@ -669,63 +831,312 @@ public final class CommandTree<C> {
 
     /**
      * Insert a new command into the command tree
+     * <p>
+     * Only the path of the inserted command is verified and registered, which keeps
+     * the cost of registering a command independent of the size of the tree
      *
      * @param command Command to insert
      */
-    @SuppressWarnings("unchecked")
     public void insertCommand(final @NonNull Command<C> command) {
+        this.insertCommands(Collections.singletonList(command));
+    }
+
+    /**
+     * Insert a collection of commands into the command tree. The paths of all the commands
+     * are inserted before any of them are verified, and each affected node is only verified once
+     *
+     * @param commands Commands to insert
+     * @since 1.7.0
+     */
+    public void insertCommands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        synchronized (this.commandLock) {
+            final Set<Node<CommandArgument<C, ?>>> modifiedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            final List<Node<CommandArgument<C, ?>>> commandNodes = new ArrayList<>(commands.size());
+            for (final Command<C> command : commands) {
+                commandNodes.add(this.insertPath(command, modifiedNodes));
+            }
+            // Verify the structure of the nodes that were touched by the inserted commands
+            for (final Node<CommandArgument<C, ?>> node : modifiedNodes) {
+                this.checkAmbiguity(node, false);
+            }
+            for (final Node<CommandArgument<C, ?>> node : commandNodes) {
+                this.registerCommandNode(node);
+            }
+            this.modificationCount++;
+            if (this.compiledTree != null) {
+                modifiedNodes.addAll(commandNodes);
+                this.publishSnapshot(modifiedNodes);
+            }
+        }
+    }
+
+    /**
+     * Delete a root node, and all of the commands that are attached to it or its children.
+     * <p>
+     * If the tree has been {@link #compile() compiled}, a new snapshot without the root node
+     * is published once the node has been removed. Requests that are being parsed while the node
+     * is deleted will finish using the snapshot that they started with.
+     *
+     * @param name Name or alias of the root node
+     * @return The removed root node, or {@code null} if no root node is named by the given name
+     * @since 1.7.0
+     */
+    public @Nullable Node<@Nullable CommandArgument<C, ?>> deleteRootNode(final @NonNull String name) {
         synchronized (this.commandLock) {
-            Node<CommandArgument<C, ?>> node = this.internalTree;
-            for (final CommandArgument<C, ?> argument : command.getArguments()) {
-                Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
-                if (tempNode == null) {
-                    tempNode = node.addChild(argument);
-                } else if (argument instanceof StaticArgument && tempNode.getValue() != null) {
+            final Node<CommandArgument<C, ?>> node = this.internalTree.getLiteralChild(name);
+            if (node == null) {
+                return null;
+            }
+            this.internalTree.removeChild(node);
+            this.internalTree.nodeMeta.remove("permission");
+            this.internalTree.children.forEach(this::propagateRootPermission);
+            this.modificationCount++;
+            if (this.compiledTree != null) {
+                this.publishSnapshot(Collections.singleton(this.internalTree));
+            }
+            return node;
+        }
+    }
+
+    private void propagateRootPermission(final @NonNull Node<@Nullable CommandArgument<C, ?>> rootChild) {
+        final CommandPermission childPermission = (CommandPermission) rootChild.nodeMeta.get("permission");
+        if (childPermission == null) {
+            return;
+        }
+        final CommandPermission existingPermission = (CommandPermission) this.internalTree.nodeMeta.get("permission");
+        if (existingPermission == null) {
+            this.internalTree.nodeMeta.put("permission", childPermission);
+        } else {
+            this.internalTree.nodeMeta.put("permission", OrPermission.of(Arrays.asList(childPermission, existingPermission)));
+        }
+    }
+
+    /**
+     * Publish a new snapshot of the tree. Only the nodes that have been modified are copied,
+     * the unmodified subtrees are shared with the previous snapshot
+     *
+     * @param modifiedNodes Nodes that have been modified since the previous snapshot
+     */
+    private void publishSnapshot(final @NonNull Set<@NonNull Node<@Nullable CommandArgument<C, ?>>> modifiedNodes) {
+        for (final Node<CommandArgument<C, ?>> node : modifiedNodes) {
+            this.resolveOwningCommandIfOptional(node);
+        }
+        this.compiledTree = this.internalTree.freeze(modifiedNodes);
+    }
+
+    /**
+     * Compile the command tree into an immutable snapshot that will be used for all subsequent
+     * parsing and suggestion requests.
+     * <p>
+     * The nodes of the snapshot store their children in arrays, have their literals indexed and
+     * have their permissions and owning commands resolved, so they may be traversed by any number
+     * of threads without synchronization. This is intended to be invoked once the registration
+     * has finished, see {@link CommandManager.RegistrationState#AFTER_REGISTRATION}.
+     * <p>
+     * Commands that are inserted or deleted after the tree has been compiled cause a new version of
+     * the snapshot to be published atomically. The new version only copies the modified paths, and
+     * requests that are being parsed keep using the version they started with.
+     *
+     * @since 1.7.0
+     */
+    public void compile() {
+        synchronized (this.commandLock) {
+            this.resolveOwningCommands(this.internalTree);
+            this.compiledTree = this.internalTree.freeze(null);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Check whether the tree has been compiled using {@link #compile()}
+     *
+     * @return {@code true} if parsing uses a compiled snapshot of the tree, else {@code false}
+     * @since 1.7.0
+     */
+    public boolean isCompiled() {
+        return this.compiledTree != null;
+    }
+
+    /**
+     * Get the modification count of the tree. The count changes every time commands are inserted into
+     * or deleted from the tree, and when the tree is compiled, which allows platforms to cache data derived
+     * from the tree and to invalidate it once the tree changes
+     *
+     * @return Modification count
+     * @since 1.7.0
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    private @NonNull Node<@Nullable CommandArgument<C, ?>> parseRoot() {
+        final Node<CommandArgument<C, ?>> compiledTree = this.compiledTree;
+        if (compiledTree != null) {
+            return compiledTree;
+        }
+        return this.internalTree;
+    }
+
+    private void resolveOwningCommands(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) {
+        for (final Node<CommandArgument<C, ?>> child : node.children) {
+            this.resolveOwningCommandIfOptional(child);
+            this.resolveOwningCommands(child);
+        }
+    }
+
+    private void resolveOwningCommandIfOptional(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) {
+        final CommandArgument<C, ?> argument = node.getValue();
+        if (argument != null && !(argument instanceof StaticArgument) && !argument.isRequired()
+                && argument.getOwningCommand() == null) {
+            this.resolveOwningCommand(node);
+        }
+    }
+
+    private void resolveOwningCommand(final @NonNull Node<@Nullable CommandArgument<C, ?>> child) {
+        /*
+         * If there are multiple children with different owning commands then it's ambiguous and
+         * not allowed, therefore we're able to pick any child command, as long as we can find it
+         */
+        Node<CommandArgument<C, ?>> node = child;
+        while (!node.isLeaf()) {
+            node = node.getChildren().get(0);
+            if (node.getValue() != null && node.getValue().getOwningCommand() != null) {
+                Objects.requireNonNull(child.getValue(), "child.value").setOwningCommand(node.getValue().getOwningCommand());
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull Node<@Nullable CommandArgument<C, ?>> insertPath(
+            final @NonNull Command<C> command,
+            final @NonNull Set<@NonNull Node<@Nullable CommandArgument<C, ?>>> modifiedNodes
+    ) {
+        // All top level commands are supposed to be registered in the command manager
+        if (!(command.getArguments().get(0) instanceof StaticArgument)) {
+            throw new IllegalStateException("Top level command argument cannot be a variable");
+        }
+        Node<CommandArgument<C, ?>> node = this.internalTree;
+        final List<CommandArgument<C, ?>> arguments = command.getArguments();
+        for (int position = 0; position < arguments.size(); position++) {
+            final CommandArgument<C, ?> argument = arguments.get(position);
+            Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
+            if (tempNode == null) {
+                tempNode = node.addChild(argument);
+                if (argument instanceof StaticArgument) {
+                    final Node<CommandArgument<C, ?>> parent = node;
+                    final Node<CommandArgument<C, ?>> literal = tempNode;
+                    ((StaticArgument<C>) argument).addAliasListener(alias -> this.indexAlias(parent, literal, alias));
+                }
+            }
+            if (argument instanceof StaticArgument) {
+                /* The aliases are indexed first, so that the alias listener has nothing left to do */
+                for (final String alias : ((StaticArgument<C>) argument).getAliases()) {
+                    node.indexLiteral(alias, tempNode);
+                }
+                node.literalNames.putIfAbsent(argument.getName(), tempNode);
+                if (tempNode.getValue() != argument) {
                     for (final String alias : ((StaticArgument<C>) argument).getAliases()) {
                         ((StaticArgument<C>) tempNode.getValue()).registerAlias(alias);
                     }
                 }
-                if (node.children.size() > 0) {
-                    node.children.sort(Comparator.comparing(Node::getValue));
-                }
-                tempNode.setParent(node);
-                node = tempNode;
             }
-            if (node.getValue() != null) {
-                if (node.getValue().getOwningCommand() != null) {
-                    throw new IllegalStateException(String.format(
-                            "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
-                            node.toString(), node.getValue().getOwningCommand().toString()
-                    ));
+            if (node.children.size() > 0) {
+                node.children.sort(Comparator.comparing(Node::getValue));
+            }
+            /* Parsed values are stored in the context slot that matches the position of the argument */
+            Objects.requireNonNull(tempNode.getValue(), "tempNode.value").assignSlot(position);
+            tempNode.setParent(node);
+            modifiedNodes.add(node);
+            node = tempNode;
+        }
+        if (node.getValue() != null) {
+            if (node.getValue().getOwningCommand() != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
+                        node.toString(), node.getValue().getOwningCommand().toString()
+                ));
+            }
+            node.getValue().setOwningCommand(command);
+        }
+        return node;
+    }
+
+    /**
+     * Index an alias that was registered after the literal node was inserted into the tree
+     *
+     * @param parent  Parent of the literal node
+     * @param literal Literal node
+     * @param alias   Registered alias
+     */
+    private void indexAlias(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> parent,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> literal,
+            final @NonNull String alias
+    ) {
+        synchronized (this.commandLock) {
+            if (parent.getLiteralChild(alias) != null || literal.getValue() == null || parent.getChild(literal.getValue()) != literal) {
+                /* The alias is already indexed, or the node has been deleted */
+                return;
+            }
+            parent.indexLiteral(alias, literal);
+            this.modificationCount++;
+            if (this.compiledTree != null) {
+                /* The path to the modified node has to be copied as well */
+                final Set<Node<CommandArgument<C, ?>>> modifiedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Node<CommandArgument<C, ?>> node = parent; node != null; node = node.getParent()) {
+                    modifiedNodes.add(node);
                 }
-                node.getValue().setOwningCommand(command);
+                this.publishSnapshot(modifiedNodes);
             }
-            // Verify the command structure every time we add a new command
-            this.verifyAndRegister();
+        }
+    }
+
+    /**
+     * Register the command owning a newly inserted node, and propagate its permission
+     * up the chain leading to the node
+     *
+     * @param node Node owning the inserted command
+     */
+    private void registerCommandNode(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) {
+        final CommandArgument<C, ?> argument = Objects.requireNonNull(node.getValue(), "node.value");
+        final Command<C> command = argument.getOwningCommand();
+        if (command == null) {
+            throw new NoCommandInLeafException(argument);
+        }
+        this.commandManager.getCommandRegistrationHandler().registerCommand(command);
+
+        if (node.isLeaf()) {
+            this.propagatePermission(node);
+            return;
+        }
+        /* The command was attached to an intermediary node, so it only affects the permission of that node */
+        final CommandPermission existingPermission = (CommandPermission) node.nodeMeta.get("permission");
+        if (existingPermission == null
+                || this.getCommandManager().getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
+            node.nodeMeta.put("permission", command.getCommandPermission());
+        } else {
+            node.nodeMeta.put("permission", OrPermission.of(Arrays.asList(existingPermission, command.getCommandPermission())));
         }
     }
 
     private @Nullable CommandPermission isPermitted(
-            final @NonNull C sender,
+            final @NonNull CommandContext<C> commandContext,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> node
     ) {
         final CommandPermission permission = (CommandPermission) node.nodeMeta.get("permission");
         if (permission != null) {
-            return this.commandManager.hasPermission(sender, permission) ? null : permission;
+            return commandContext.hasPermission(permission) ? null : permission;
         }
         if (node.isLeaf()) {
-            return this.commandManager.hasPermission(
-                    sender,
+            final CommandPermission commandPermission = Objects.requireNonNull(
                     Objects.requireNonNull(
-                            Objects.requireNonNull(
-                                    node.value,
-                                    "node.value"
-                            ).getOwningCommand(),
-                            "owning command"
-                    ).getCommandPermission()
-            )
-                    ? null : Objects.requireNonNull(node.value.getOwningCommand(), "owning command")
-                    .getCommandPermission();
+                            node.value,
+                            "node.value"
+                    ).getOwningCommand(),
+                    "owning command"
+            ).getCommandPermission();
+            return commandContext.hasPermission(commandPermission) ? null : commandPermission;
         }
         /*
           if any of the children would permit the execution, then the sender has a valid
@@ -733,7 +1144,7 @@ public final class CommandTree<C> {
          */
         final List<CommandPermission> missingPermissions = new LinkedList<>();
         for (final Node<CommandArgument<C, ?>> child : node.getChildren()) {
-            final CommandPermission check = this.isPermitted(sender, child);
+            final CommandPermission check = this.isPermitted(commandContext, child);
             if (check == null) {
                 return null;
             } else {
@@ -756,7 +1167,7 @@ public final class CommandTree<C> {
             }
         });
 
-        this.checkAmbiguity(this.internalTree);
+        this.checkAmbiguity(this.internalTree, true);
 
         // Verify that all leaf nodes have command registered
         this.getLeaves(this.internalTree).forEach(leaf -> {
@@ -769,48 +1180,49 @@ public final class CommandTree<C> {
         });
 
         // Register command permissions
-        this.getLeavesRaw(this.internalTree).forEach(node -> {
-            // noinspection all
-            final CommandPermission commandPermission = node.getValue().getOwningCommand().getCommandPermission();
-            /* All leaves must necessarily have an owning command */
-            node.nodeMeta.put("permission", commandPermission);
-            // Get chain and order it tail->head then skip the tail (leaf node)
-            List<Node<CommandArgument<C, ?>>> chain = this.getChain(node);
-            Collections.reverse(chain);
-            chain = chain.subList(1, chain.size());
-            // Go through all nodes from the tail upwards until a collision occurs
-            for (final Node<CommandArgument<C, ?>> commandArgumentNode : chain) {
-                final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
-                        .get("permission");
-
-                CommandPermission permission;
-                if (existingPermission != null) {
-                    permission = OrPermission.of(Arrays.asList(commandPermission, existingPermission));
-                } else {
-                    permission = commandPermission;
-                }
+        this.getLeavesRaw(this.internalTree).forEach(this::propagatePermission);
+    }
 
-                /* Now also check if there's a command handler attached to an upper level node */
-                if (commandArgumentNode.getValue() != null && commandArgumentNode
-                        .getValue()
-                        .getOwningCommand() != null) {
-                    final Command<C> command = commandArgumentNode.getValue().getOwningCommand();
-                    if (this
-                            .getCommandManager()
-                            .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
-                        permission = command.getCommandPermission();
-                    } else {
-                        permission = OrPermission.of(Arrays.asList(permission, command.getCommandPermission()));
-                    }
-                }
+    private void propagatePermission(final @NonNull Node<@Nullable CommandArgument<C, ?>> leaf) {
+        // noinspection all
+        final CommandPermission commandPermission = leaf.getValue().getOwningCommand().getCommandPermission();
+        /* All leaves must necessarily have an owning command */
+        leaf.nodeMeta.put("permission", commandPermission);
+        // Go through all nodes from the tail upwards until a collision occurs
+        for (Node<CommandArgument<C, ?>> commandArgumentNode = leaf.getParent(); commandArgumentNode != null;
+             commandArgumentNode = commandArgumentNode.getParent()) {
+            final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
+                    .get("permission");
+
+            CommandPermission permission;
+            if (existingPermission != null) {
+                permission = OrPermission.of(Arrays.asList(commandPermission, existingPermission));
+            } else {
+                permission = commandPermission;
+            }
 
-                commandArgumentNode.nodeMeta.put("permission", permission);
+            /* Now also check if there's a command handler attached to an upper level node */
+            if (commandArgumentNode.getValue() != null && commandArgumentNode
+                    .getValue()
+                    .getOwningCommand() != null) {
+                final Command<C> command = commandArgumentNode.getValue().getOwningCommand();
+                if (this
+                        .getCommandManager()
+                        .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
+                    permission = command.getCommandPermission();
+                } else {
+                    permission = OrPermission.of(Arrays.asList(permission, command.getCommandPermission()));
+                }
             }
-        });
+
+            commandArgumentNode.nodeMeta.put("permission", permission);
+        }
     }
 
-    private void checkAmbiguity(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) throws
-            AmbiguousNodeException {
+    private void checkAmbiguity(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final boolean recursive
+    ) throws AmbiguousNodeException {
         if (node.isLeaf()) {
             return;
         }
@@ -860,7 +1272,9 @@ public final class CommandTree<C> {
         }
 
         // Recursively check child nodes as well
-        node.children.forEach(this::checkAmbiguity);
+        if (recursive) {
+            node.children.forEach(child -> this.checkAmbiguity(child, true));
+        }
     }
 
     private @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> getLeavesRaw(
@@ -925,17 +1339,7 @@ public final class CommandTree<C> {
      * @return Root node, or {@code null}
      */
     public @Nullable Node<@Nullable CommandArgument<C, ?>> getNamedNode(final @Nullable String name) {
-        for (final Node<CommandArgument<C, ?>> node : this.getRootNodes()) {
-            if (node.getValue() != null && node.getValue() instanceof StaticArgument) {
-                @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) node.getValue();
-                for (final String alias : staticArgument.getAliases()) {
-                    if (alias.equalsIgnoreCase(name)) {
-                        return node;
-                    }
-                }
-            }
-        }
-        return null;
+        return this.internalTree.getLiteralChild(name);
     }
 
     /**
@@ -947,6 +1351,115 @@ public final class CommandTree<C> {
         return this.commandManager;
     }
 
+    /**
+     * Sink of a suggestion request, which remembers whether the sink still accepts suggestions
+     */
+    private static final class SuggestionStream {
+
+        private final SuggestionSink sink;
+        private volatile boolean open = true;
+
+        private SuggestionStream(final @NonNull SuggestionSink sink) {
+            this.sink = sink;
+        }
+
+        private boolean isOpen() {
+            return this.open;
+        }
+
+        private boolean push(final @NonNull String suggestion) {
+            if (this.open) {
+                this.open = this.sink.accept(suggestion);
+            }
+            return this.open;
+        }
+
+        private @NonNull CompletableFuture<@Nullable Void> pushAll(
+                final @NonNull CompletableFuture<@NonNull List<@NonNull String>> suggestions
+        ) {
+            return suggestions.thenAccept(list -> {
+                for (final String suggestion : list) {
+                    if (!this.push(suggestion)) {
+                        break;
+                    }
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Traversal state of a suggestion request that uses {@link SuggestionSessions}
+     *
+     * @param <C> Command sender type
+     */
+    private static final class SuggestionWalk<C> {
+
+        private final List<String> tokens;
+        private final long modificationCount;
+        private @Nullable SuggestionCheckpoint<C> checkpoint;
+
+        private SuggestionWalk(final @NonNull List<@NonNull String> tokens, final long modificationCount) {
+            this.tokens = tokens;
+            this.modificationCount = modificationCount;
+        }
+
+        private boolean canResumeFrom(final @NonNull SuggestionCheckpoint<C> checkpoint) {
+            return checkpoint.modificationCount == this.modificationCount
+                    && checkpoint.tokens.size() < this.tokens.size()
+                    && checkpoint.tokens.equals(this.tokens.subList(0, checkpoint.tokens.size()));
+        }
+
+        private void record(
+                final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+                final int remainingTokens,
+                final @NonNull CommandContext<C> commandContext
+        ) {
+            /* Only the parsed arguments are kept, the other context values belong to the request that stored them */
+            final List<Pair<CommandArgument<C, ?>, Object>> values = new ArrayList<>();
+            for (Node<CommandArgument<C, ?>> pathNode = node; pathNode != null; pathNode = pathNode.getParent()) {
+                final CommandArgument<C, ?> argument = pathNode.getValue();
+                if (argument != null) {
+                    commandContext.getOptional(argument).ifPresent(value -> values.add(Pair.of(argument, value)));
+                }
+            }
+            this.checkpoint = new SuggestionCheckpoint<>(
+                    new ArrayList<>(this.tokens.subList(0, this.tokens.size() - remainingTokens)),
+                    node,
+                    this.modificationCount,
+                    values
+            );
+        }
+
+    }
+
+    /**
+     * Node that a suggestion request was parsed to, along with the tokens that were consumed
+     * to get there and the values of the arguments that were parsed along the way
+     *
+     * @param <C> Command sender type
+     */
+    private static final class SuggestionCheckpoint<C> {
+
+        private final List<String> tokens;
+        private final Node<CommandArgument<C, ?>> node;
+        private final long modificationCount;
+        private final List<Pair<CommandArgument<C, ?>, Object>> values;
+
+        private SuggestionCheckpoint(
+                final @NonNull List<@NonNull String> tokens,
+                final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+                final long modificationCount,
+                final @NonNull List<@NonNull Pair<@NonNull CommandArgument<C, ?>, @NonNull Object>> values
+        ) {
+            this.tokens = tokens;
+            this.node = node;
+            this.modificationCount = modificationCount;
+            this.values = values;
+        }
+
+    }
+
     /**
      * Very simple tree structure
      *
@@ -954,13 +1467,82 @@ public final class CommandTree<C> {
      */
     public static final class Node<T> {
 
-        private final Map<String, Object> nodeMeta = new HashMap<>();
-        private final List<Node<T>> children = new LinkedList<>();
+        private final Map<String, Object> nodeMeta;
+        private final List<Node<T>> children;
+        private final Map<String, Node<T>> literalIndex;
+        private final NavigableMap<String, Node<T>> literalNames;
         private final T value;
-        private Node<T> parent;
+        private final boolean frozen;
+        private volatile Node<T> parent;
+        private Node<T> snapshot;
+        private volatile @Nullable LiteralIndex closeLiteralIndex;
 
         private Node(final @Nullable T value) {
             this.value = value;
+            this.nodeMeta = new HashMap<>();
+            this.children = new ArrayList<>();
+            this.literalIndex = new HashMap<>();
+            this.literalNames = new TreeMap<>();
+            this.frozen = false;
+        }
+
+        private Node(
+                final @NonNull Node<@Nullable T> source,
+                final @Nullable Node<@Nullable T> parent,
+                final @Nullable Set<@NonNull Node<@Nullable T>> modifiedNodes
+        ) {
+            this.value = source.value;
+            this.parent = parent;
+            this.nodeMeta = Collections.unmodifiableMap(new HashMap<>(source.nodeMeta));
+            this.frozen = true;
+
+            final Map<Node<T>, Node<T>> frozenChildren = new IdentityHashMap<>();
+            final List<Node<T>> sharedChildren = new ArrayList<>();
+            final Node<T>[] children = newNodeArray(source.children.size());
+            for (int i = 0; i < children.length; i++) {
+                final Node<T> child = source.children.get(i);
+                if (modifiedNodes == null || child.snapshot == null || modifiedNodes.contains(child)) {
+                    children[i] = new Node<>(child, this, modifiedNodes);
+                } else {
+                    /* The subtree is unchanged, and can be shared with the previous snapshot */
+                    children[i] = child.snapshot;
+                    sharedChildren.add(children[i]);
+                }
+                frozenChildren.put(child, children[i]);
+            }
+            this.children = Collections.unmodifiableList(Arrays.asList(children));
+
+            this.literalIndex = new HashMap<>();
+            source.literalIndex.forEach((literal, child) -> this.literalIndex.put(literal, frozenChildren.get(child)));
+            this.literalNames = new TreeMap<>();
+            source.literalNames.forEach((name, child) -> this.literalNames.put(name, frozenChildren.get(child)));
+
+            /*
+             * The shared subtrees are moved into this snapshot, so that they do not keep the previous snapshot
+             * reachable. Their new parent holds the same value as their previous parent, so chains that are
+             * computed from the previous snapshot stay the same
+             */
+            for (final Node<T> sharedChild : sharedChildren) {
+                sharedChild.parent = this;
+            }
+            source.snapshot = this;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> @NonNull Node<@Nullable T>[] newNodeArray(final int length) {
+            return (Node<T>[]) new Node[length];
+        }
+
+        /**
+         * Create an immutable copy of this node and its children
+         *
+         * @param modifiedNodes Nodes that have been modified since the previous copy was created. Unmodified
+         *                      children will be shared with the previous copy. If {@code null}, all children
+         *                      will be copied
+         * @return Frozen copy
+         */
+        private @NonNull Node<@Nullable T> freeze(final @Nullable Set<@NonNull Node<@Nullable T>> modifiedNodes) {
+            return new Node<>(this, null, modifiedNodes);
         }
 
         /**
@@ -969,15 +1551,36 @@ public final class CommandTree<C> {
          * @return Children
          */
         public @NonNull List<@NonNull Node<@Nullable T>> getChildren() {
+            if (this.frozen) {
+                return this.children;
+            }
             return Collections.unmodifiableList(this.children);
         }
 
+        /**
+         * Check whether the node is part of a compiled, immutable snapshot of the command tree
+         *
+         * @return {@code true} if the node is frozen, else {@code false}
+         * @since 1.7.0
+         */
+        public boolean isFrozen() {
+            return this.frozen;
+        }
+
         private @NonNull Node<@Nullable T> addChild(final @NonNull T child) {
             final Node<T> node = new Node<>(child);
             this.children.add(node);
             return node;
         }
 
+        private void removeChild(final @NonNull Node<@Nullable T> child) {
+            this.children.remove(child);
+            this.literalIndex.values().removeIf(indexedChild -> indexedChild == child);
+            this.literalNames.values().removeIf(indexedChild -> indexedChild == child);
+            /* The index does not support removal, and is rebuilt when it is next needed */
+            this.closeLiteralIndex = null;
+        }
+
         private @Nullable Node<@Nullable T> getChild(final @NonNull T type) {
             for (final Node<T> child : this.children) {
                 if (type.equals(child.getValue())) {
@@ -987,6 +1590,97 @@ public final class CommandTree<C> {
             return null;
         }
 
+        /**
+         * Get the literal child that accepts the given name or alias. The lookup is case-insensitive,
+         * matching the behaviour of {@link StaticArgument} parsing
+         *
+         * @param literal Literal name or alias, may be {@code null}
+         * @return Literal child node, or {@code null} if no literal child accepts the input
+         */
+        private @Nullable Node<@Nullable T> getLiteralChild(final @Nullable String literal) {
+            if (literal == null || this.literalIndex.isEmpty()) {
+                return null;
+            }
+            return this.literalIndex.get(literal.toLowerCase(Locale.ROOT));
+        }
+
+        /**
+         * Get the literal children of this node, sorted by their names. Literals that start with a given
+         * prefix form a contiguous range of the map, which is used to look up literal suggestions
+         *
+         * @return Literal children by name
+         */
+        private @NonNull NavigableMap<@NonNull String, @NonNull Node<@Nullable T>> getLiteralChildrenByName() {
+            return this.literalNames;
+        }
+
+        /**
+         * Check whether any literal child of this node accepts the given name or alias. The lookup is
+         * case-insensitive, and uses the index of literal aliases that is maintained when commands are inserted
+         *
+         * @param literal Literal name or alias
+         * @return {@code true} if a literal child accepts the input, else {@code false}
+         * @since 1.7.0
+         */
+        public boolean hasLiteralChild(final @NonNull String literal) {
+            return this.getLiteralChild(literal) != null;
+        }
+
+        /**
+         * Get the names and aliases of the literal children that are close to the given input, ordered by their
+         * edit distance to the input. Only the closest alias of each literal child is included. The lookup is
+         * case-insensitive, and the returned aliases are lower case
+         *
+         * @param literal Input that did not match any literal child
+         * @param limit   Maximum amount of aliases to return
+         * @return Close literal aliases
+         * @since 1.7.0
+         */
+        public @NonNull List<@NonNull String> getCloseLiterals(final @NonNull String literal, final int limit) {
+            final String input = literal.toLowerCase(Locale.ROOT);
+            final List<String> closeLiterals = new ArrayList<>();
+            if (limit <= 0 || this.literalIndex.isEmpty()) {
+                return closeLiterals;
+            }
+            final Set<Node<T>> matchedChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final String alias : this.getCloseLiteralIndex().closeMatches(input, LiteralIndex.tolerance(input))) {
+                if (matchedChildren.add(this.literalIndex.get(alias))) {
+                    closeLiterals.add(alias);
+                    if (closeLiterals.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return closeLiterals;
+        }
+
+        private @NonNull LiteralIndex getCloseLiteralIndex() {
+            LiteralIndex closeLiteralIndex = this.closeLiteralIndex;
+            if (closeLiteralIndex == null) {
+                synchronized (this) {
+                    closeLiteralIndex = this.closeLiteralIndex;
+                    if (closeLiteralIndex == null) {
+                        closeLiteralIndex = new LiteralIndex();
+                        for (final String alias : this.literalIndex.keySet()) {
+                            closeLiteralIndex.add(alias);
+                        }
+                        this.closeLiteralIndex = closeLiteralIndex;
+                    }
+                }
+            }
+            return closeLiteralIndex;
+        }
+
+        private void indexLiteral(final @NonNull String literal, final @NonNull Node<@Nullable T> child) {
+            final String alias = literal.toLowerCase(Locale.ROOT);
+            if (this.literalIndex.putIfAbsent(alias, child) == null) {
+                final LiteralIndex closeLiteralIndex = this.closeLiteralIndex;
+                if (closeLiteralIndex != null) {
+                    closeLiteralIndex.add(alias);
+                }
+            }
+        }
+
         /**
          * Check if the node is a leaf node
          *
@@ -997,7 +1691,7 @@ public final class CommandTree<C> {
         }
 
         /**
-         * Get the node meta instance
+         * Get the node meta instance. The meta of a {@link #isFrozen() frozen} node cannot be modified
          *
          * @return Node meta
          */
@@ -1046,6 +1740,9 @@ public final class CommandTree<C> {
          * @param parent new parent node
          */
         public void setParent(final @Nullable Node<@Nullable T> parent) {
+            if (this.frozen) {
+                throw new IllegalStateException("Cannot modify a frozen node");
+            }
             this.parent = parent;
         }
 
@@ -0,0 +1,214 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * BK-tree of literal names and aliases, used to look up literals that are close to some input
+ * without computing the edit distance to every literal.
+ * <p>
+ * Every entry stores its children by their edit distance to the entry. Because the edit distance is a metric,
+ * a lookup with tolerance {@code t} only has to visit the children whose distance to an entry lies within
+ * {@code t} of the distance between the input and that entry.
+ */
+final class LiteralIndex {
+
+    private @Nullable Entry root;
+    private int size;
+
+    /**
+     * Add a literal to the index. Literals that are already indexed are ignored
+     *
+     * @param literal Literal
+     */
+    void add(final @NonNull String literal) {
+        if (this.root == null) {
+            this.root = new Entry(literal);
+            this.size++;
+            return;
+        }
+        final int[][] rows = rows(literal.length());
+        Entry entry = this.root;
+        while (true) {
+            final int distance = distance(literal, entry.literal, rows);
+            if (distance == 0) {
+                return;
+            }
+            final Entry child = entry.getChild(distance);
+            if (child == null) {
+                entry.setChild(distance, new Entry(literal));
+                this.size++;
+                return;
+            }
+            entry = child;
+        }
+    }
+
+    /**
+     * Get the amount of indexed literals
+     *
+     * @return Literal count
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the indexed literals whose edit distance to the input does not exceed the tolerance, ordered by their
+     * distance to the input and then alphabetically
+     *
+     * @param input     Input
+     * @param tolerance Maximum edit distance
+     * @return Close literals
+     */
+    @NonNull List<@NonNull String> closeMatches(final @NonNull String input, final int tolerance) {
+        final Entry root = this.root;
+        if (root == null) {
+            return new ArrayList<>();
+        }
+        final List<Match> matches = new ArrayList<>();
+        final List<Entry> pending = new ArrayList<>();
+        final int[][] rows = rows(input.length());
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            final Entry entry = pending.remove(pending.size() - 1);
+            final int distance = distance(input, entry.literal, rows);
+            if (distance <= tolerance) {
+                matches.add(new Match(entry.literal, distance));
+            }
+            final Entry[] children = entry.children;
+            if (children == null) {
+                continue;
+            }
+            final int to = Math.min(children.length - 1, distance + tolerance);
+            for (int i = Math.max(1, distance - tolerance); i <= to; i++) {
+                if (children[i] != null) {
+                    pending.add(children[i]);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt((Match match) -> match.distance).thenComparing(match -> match.literal));
+        final List<String> literals = new ArrayList<>(matches.size());
+        for (final Match match : matches) {
+            literals.add(match.literal);
+        }
+        return literals;
+    }
+
+    /**
+     * Get the default tolerance for an input. Short inputs tolerate a single edit, longer inputs tolerate more
+     *
+     * @param input Input
+     * @return Tolerance
+     */
+    static int tolerance(final @NonNull String input) {
+        if (input.length() <= 4) {
+            return 1;
+        } else if (input.length() <= 8) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static int @NonNull [] @NonNull [] rows(final int length) {
+        return new int[][]{new int[length + 1], new int[length + 1]};
+    }
+
+    /**
+     * Compute the Levenshtein distance between two strings, using two rows of the distance matrix
+     *
+     * @param first  First string, the rows have to be longer than its length
+     * @param second Second string
+     * @param rows   Reusable rows
+     * @return Edit distance
+     */
+    private static int distance(final @NonNull String first, final @NonNull String second, final int @NonNull [] @NonNull [] rows) {
+        final int length = first.length();
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int i = 0; i <= length; i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= second.length(); j++) {
+            current[0] = j;
+            final char character = second.charAt(j - 1);
+            for (int i = 1; i <= length; i++) {
+                final int substitution = previous[i - 1] + (first.charAt(i - 1) == character ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[length];
+    }
+
+
+    private static final class Entry {
+
+        private final String literal;
+        private Entry @Nullable [] children;
+
+        private Entry(final @NonNull String literal) {
+            this.literal = literal;
+        }
+
+        private @Nullable Entry getChild(final int distance) {
+            final Entry[] children = this.children;
+            if (children == null || distance >= children.length) {
+                return null;
+            }
+            return children[distance];
+        }
+
+        private void setChild(final int distance, final @NonNull Entry child) {
+            if (this.children == null) {
+                this.children = new Entry[Math.max(distance + 1, 4)];
+            } else if (distance >= this.children.length) {
+                this.children = Arrays.copyOf(this.children, Math.max(distance + 1, this.children.length * 2));
+            }
+            this.children[distance] = child;
+        }
+
+    }
+
+    private static final class Match {
+
+        private final String literal;
+        private final int distance;
+
+        private Match(final @NonNull String literal, final int distance) {
+            this.literal = literal;
+            this.distance = distance;
+        }
+
+    }
+
+}
@@ -0,0 +1,247 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Per-sender coalescing of suggestion requests. Clients tend to send bursts of suggestion requests while
+ * the sender is typing, and only the response to the latest request is of any use. When a sender requests
+ * suggestions while a previous request of the same sender is still pending, the previous request is
+ * superseded: its future is cancelled, and it is not processed if it has not been started yet.
+ * <p>
+ * Requests may additionally be debounced. A debounced request is only processed once the debounce window has
+ * passed without a newer request from the same sender, which means that a burst of requests only causes
+ * the last request to be processed. The scheduler only waits for the debounce window to pass, after which
+ * the request is handed off to an executor, so that slow suggestion providers do not delay the requests
+ * of other senders.
+ * <p>
+ * Requests made through {@link CommandManager#suggestFuture(Object, String)} are coalesced once a coalescer
+ * has been set using {@link CommandManager#setSuggestionCoalescer(SuggestionCoalescer)}.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class SuggestionCoalescer<C> {
+
+    private static volatile @Nullable ScheduledExecutorService defaultScheduler;
+
+    private final long debounceNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final Map<C, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+
+    private SuggestionCoalescer(
+            final long debounceNanos,
+            final @NonNull ScheduledExecutorService scheduler,
+            final @NonNull Executor executor
+    ) {
+        this.debounceNanos = debounceNanos;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    /**
+     * Create a new coalescer. The debounce windows are timed by a shared daemon thread, and debounced requests
+     * are processed by the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param debounce Debounce window. Use {@link Duration#ZERO} to process requests immediately, in which case
+     *                 newer requests only supersede requests that are still in progress
+     * @param <C>      Command sender type
+     * @return Created coalescer
+     */
+    public static <C> @NonNull SuggestionCoalescer<C> create(final @NonNull Duration debounce) {
+        return create(debounce, defaultScheduler());
+    }
+
+    /**
+     * Create a new coalescer. Debounced requests are processed by the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param debounce  Debounce window. Use {@link Duration#ZERO} to process requests immediately, in which case
+     *                  newer requests only supersede requests that are still in progress
+     * @param scheduler Scheduler that times the debounce windows
+     * @param <C>       Command sender type
+     * @return Created coalescer
+     */
+    public static <C> @NonNull SuggestionCoalescer<C> create(
+            final @NonNull Duration debounce,
+            final @NonNull ScheduledExecutorService scheduler
+    ) {
+        return create(debounce, scheduler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new coalescer
+     *
+     * @param debounce  Debounce window. Use {@link Duration#ZERO} to process requests immediately, in which case
+     *                  newer requests only supersede requests that are still in progress
+     * @param scheduler Scheduler that times the debounce windows
+     * @param executor  Executor that processes debounced requests once their debounce window has passed
+     * @param <C>       Command sender type
+     * @return Created coalescer
+     */
+    public static <C> @NonNull SuggestionCoalescer<C> create(
+            final @NonNull Duration debounce,
+            final @NonNull ScheduledExecutorService scheduler,
+            final @NonNull Executor executor
+    ) {
+        if (debounce.isNegative()) {
+            throw new IllegalArgumentException("Debounce window may not be negative: " + debounce);
+        }
+        return new SuggestionCoalescer<>(debounce.toNanos(), scheduler, executor);
+    }
+
+    private static @NonNull ScheduledExecutorService defaultScheduler() {
+        ScheduledExecutorService scheduler = defaultScheduler;
+        if (scheduler == null) {
+            synchronized (SuggestionCoalescer.class) {
+                scheduler = defaultScheduler;
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "cloud-suggestion-coalescer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    defaultScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Get the debounce window
+     *
+     * @return Debounce window
+     */
+    public @NonNull Duration getDebounce() {
+        return Duration.ofNanos(this.debounceNanos);
+    }
+
+    /**
+     * Get the amount of senders that have a pending request
+     *
+     * @return Pending request count
+     */
+    public int size() {
+        return this.pendingRequests.size();
+    }
+
+    /**
+     * Cancel the pending request of a sender
+     *
+     * @param sender Command sender
+     */
+    public void cancel(final @NonNull C sender) {
+        final PendingRequest pendingRequest = this.pendingRequests.remove(sender);
+        if (pendingRequest != null) {
+            pendingRequest.supersede();
+        }
+    }
+
+    @NonNull CompletableFuture<@NonNull List<@NonNull String>> submit(
+            final @NonNull C sender,
+            final @NonNull Supplier<@NonNull CompletableFuture<@NonNull List<@NonNull String>>> request
+    ) {
+        final PendingRequest pendingRequest = new PendingRequest(request);
+        final PendingRequest supersededRequest = this.pendingRequests.put(sender, pendingRequest);
+        if (supersededRequest != null) {
+            supersededRequest.supersede();
+        }
+        pendingRequest.result.whenComplete((suggestions, throwable) -> this.pendingRequests.remove(sender, pendingRequest));
+        if (this.debounceNanos == 0L) {
+            pendingRequest.run();
+        } else {
+            pendingRequest.task = this.scheduler.schedule(
+                    () -> pendingRequest.dispatch(this.executor),
+                    this.debounceNanos,
+                    TimeUnit.NANOSECONDS
+            );
+        }
+        return pendingRequest.result;
+    }
+
+
+    private static final class PendingRequest {
+
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        private final Supplier<CompletableFuture<List<String>>> request;
+        private volatile @Nullable ScheduledFuture<?> task;
+
+        private PendingRequest(final @NonNull Supplier<@NonNull CompletableFuture<@NonNull List<@NonNull String>>> request) {
+            this.request = request;
+        }
+
+        private void run() {
+            if (this.result.isDone()) {
+                return;
+            }
+            try {
+                this.request.get().whenComplete((suggestions, throwable) -> {
+                    if (throwable != null) {
+                        this.result.completeExceptionally(throwable);
+                    } else {
+                        this.result.complete(suggestions);
+                    }
+                });
+            } catch (final Throwable throwable) {
+                this.result.completeExceptionally(throwable);
+            }
+        }
+
+        private void dispatch(final @NonNull Executor executor) {
+            if (this.result.isDone()) {
+                return;
+            }
+            try {
+                executor.execute(this::run);
+            } catch (final RuntimeException exception) {
+                this.result.completeExceptionally(exception);
+            }
+        }
+
+        private void supersede() {
+            this.result.cancel(false);
+            final ScheduledFuture<?> task = this.task;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Per-sender suggestion sessions. A session remembers how far the command tree was traversed for the
+ * previous suggestion request of a sender, and which values were parsed along the way. When the next
+ * request only extends the input of the previous one, the traversal resumes from the remembered node
+ * instead of parsing the complete input again.
+ * <p>
+ * Sessions expire once their sender has not requested suggestions for the configured duration.
+ * Sessions are also discarded whenever the command tree is modified.
+ * <p>
+ * Sessions are used once they have been set using {@link CommandManager#setSuggestionSessions(SuggestionSessions)}.
+ * Because the parsed values are reused, resumed requests do not re-check the arguments that were already
+ * parsed. Parsers whose results depend on more than their input should therefore not be used with sessions.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class SuggestionSessions<C> {
+
+    private final long expiryNanos;
+    private final int maximumSessions;
+    private final Map<C, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    private SuggestionSessions(final long expiryNanos, final int maximumSessions) {
+        this.expiryNanos = expiryNanos;
+        this.maximumSessions = maximumSessions;
+    }
+
+    /**
+     * Create a new session store
+     *
+     * @param expiry          Duration after which the session of an inactive sender expires
+     * @param maximumSessions Maximum amount of concurrent sessions. Senders that request suggestions
+     *                        while the store is full will not get a session
+     * @param <C>             Command sender type
+     * @return Created session store
+     */
+    public static <C> @NonNull SuggestionSessions<C> create(final @NonNull Duration expiry, final int maximumSessions) {
+        if (expiry.isNegative() || expiry.isZero()) {
+            throw new IllegalArgumentException("Expiry must be positive: " + expiry);
+        }
+        if (maximumSessions <= 0) {
+            throw new IllegalArgumentException("Maximum sessions must be positive: " + maximumSessions);
+        }
+        return new SuggestionSessions<>(expiry.toNanos(), maximumSessions);
+    }
+
+    /**
+     * Discard the session of a sender
+     *
+     * @param sender Command sender
+     */
+    public void invalidate(final @NonNull C sender) {
+        this.sessions.remove(sender);
+    }
+
+    /**
+     * Discard all sessions
+     */
+    public void invalidateAll() {
+        this.sessions.clear();
+    }
+
+    /**
+     * Get the amount of sessions, including expired sessions that have not been removed yet
+     *
+     * @return Session count
+     */
+    public int size() {
+        return this.sessions.size();
+    }
+
+    @Nullable Object getCheckpoint(final @NonNull C sender) {
+        final Session session = this.sessions.get(sender);
+        if (session == null) {
+            return null;
+        }
+        if (System.nanoTime() - session.lastAccess >= this.expiryNanos) {
+            this.sessions.remove(sender, session);
+            return null;
+        }
+        return session.checkpoint;
+    }
+
+    void setCheckpoint(final @NonNull C sender, final @Nullable Object checkpoint) {
+        if (checkpoint == null) {
+            this.sessions.remove(sender);
+            return;
+        }
+        final long now = System.nanoTime();
+        this.sweep(now);
+        if (this.sessions.size() >= this.maximumSessions && !this.sessions.containsKey(sender)) {
+            return;
+        }
+        this.sessions.put(sender, new Session(checkpoint, now));
+    }
+
+    private void sweep(final long now) {
+        final long lastSweep = this.lastSweep.get();
+        if (now - lastSweep < this.expiryNanos || !this.lastSweep.compareAndSet(lastSweep, now)) {
+            return;
+        }
+        this.sessions.values().removeIf(session -> now - session.lastAccess >= this.expiryNanos);
+    }
+
+
+    private static final class Session {
+
+        private final Object checkpoint;
+        private final long lastAccess;
+
+        private Session(final @NonNull Object checkpoint, final long lastAccess) {
+            this.checkpoint = checkpoint;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
@@ -40,6 +40,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -59,10 +60,14 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
      */
     private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9\\-_]+");
 
+    private static final int UNASSIGNED_SLOT = -1;
+    private static final int SHARED_SLOT = -2;
+
     /**
      * A typed key representing this argument
      */
     private final CloudKey<T> key;
+
     /**
      * Indicates whether or not the argument is required
      * or not. All arguments prior to any other required
@@ -112,6 +117,11 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
 
     private Command<C> owningCommand;
 
+    /**
+     * Index of the context slot that parsed values are stored in, see {@link #getSlot()}
+     */
+    private int slot = UNASSIGNED_SLOT;
+
     /**
      * Construct a new command argument
      *
@@ -433,6 +443,37 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         this.owningCommand = owningCommand;
     }
 
+    /**
+     * Get the index of the {@link CommandContext} slot that parsed values of this argument are stored in.
+     * The slot is the position of the argument in the commands that it has been registered to
+     *
+     * @return Slot index, or {@code -1} if the argument has not been registered, or if it has been
+     *         registered at different positions
+     * @since 1.7.0
+     */
+    public int getSlot() {
+        return Math.max(this.slot, UNASSIGNED_SLOT);
+    }
+
+    /**
+     * Assign the context slot of this argument. This is invoked by the command tree when a command
+     * containing this argument is registered. An argument that is registered at different positions
+     * does not use a slot
+     *
+     * @param slot Position of the argument in the command
+     * @since 1.7.0
+     */
+    public void assignSlot(final int slot) {
+        if (slot < 0) {
+            throw new IllegalArgumentException("Slot index cannot be negative: " + slot);
+        }
+        if (this.slot == UNASSIGNED_SLOT) {
+            this.slot = slot;
+        } else if (this.slot != slot) {
+            this.slot = SHARED_SLOT;
+        }
+    }
+
     /**
      * Get the argument suggestions provider
      *
@@ -443,6 +484,26 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         return this.suggestionsProvider;
     }
 
+    /**
+     * Get suggestions for this argument asynchronously. If the argument uses the suggestions of its parser,
+     * they are retrieved using {@link ArgumentParser#suggestionsFuture(CommandContext, String)}. Otherwise,
+     * the {@link #getSuggestionsProvider() suggestions provider} is invoked
+     *
+     * @param commandContext Command context
+     * @param input          Input string
+     * @return Future that completes with the list of suggestions
+     * @since 1.7.0
+     */
+    public final @NonNull CompletableFuture<@NonNull List<@NonNull String>> getSuggestionsFuture(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull String input
+    ) {
+        if (this.suggestionsProvider instanceof DelegatingSuggestionsProvider) {
+            return ((DelegatingSuggestionsProvider<C>) this.suggestionsProvider).applyFuture(commandContext, input);
+        }
+        return CompletableFuture.completedFuture(this.suggestionsProvider.apply(commandContext, input));
+    }
+
     /**
      * Get the default description to use when registering and no other is provided.
      *
@@ -24,8 +24,11 @@
 package cloud.commandframework.arguments;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.SuggestionSink;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Handler that produces command suggestions depending on input
@@ -47,4 +50,50 @@ public interface CommandSuggestionEngine<C> {
             @NonNull String input
     );
 
+    /**
+     * Get command suggestions for the "next" argument that would yield a correctly
+     * parsing command input, without blocking until all the suggestions are available.
+     * <p>
+     * By default, this returns a completed future holding the result of {@link #getSuggestions(CommandContext, String)}
+     *
+     * @param context Request context
+     * @param input   Input provided by the sender
+     * @return Future that completes with the list of suggestions
+     * @since 1.7.0
+     */
+    default @NonNull CompletableFuture<@NonNull List<@NonNull String>> getSuggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        return CompletableFuture.completedFuture(this.getSuggestions(context, input));
+    }
+
+    /**
+     * Push command suggestions for the "next" argument that would yield a correctly parsing command input
+     * into a sink, and complete the sink once all suggestions have been pushed.
+     * <p>
+     * By default, this pushes the suggestions of {@link #getSuggestionsFuture(CommandContext, String)} once they
+     * are available. Engines that produce suggestions one at a time should push them as they are produced
+     *
+     * @param context Request context
+     * @param input   Input provided by the sender
+     * @param sink    Sink to push the suggestions into
+     * @return Future that completes once the sink has been completed
+     * @since 1.7.0
+     */
+    default @NonNull CompletableFuture<@Nullable Void> streamSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final @NonNull SuggestionSink sink
+    ) {
+        return this.getSuggestionsFuture(context, input).thenAccept(suggestions -> {
+            for (final String suggestion : suggestions) {
+                if (!sink.accept(suggestion)) {
+                    break;
+                }
+            }
+            sink.complete();
+        });
+    }
+
 }
@@ -26,13 +26,17 @@ package cloud.commandframework.arguments;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
+import cloud.commandframework.execution.SuggestionSink;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
-import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.services.State;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Command suggestion engine that delegates to a {@link cloud.commandframework.CommandTree}
@@ -41,8 +45,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public final class DelegatingCommandSuggestionEngine<C> implements CommandSuggestionEngine<C> {
 
-    private static final List<String> SINGLE_EMPTY_SUGGESTION = Collections.unmodifiableList(Collections.singletonList(""));
-
     private final CommandManager<C> commandManager;
     private final CommandTree<C> commandTree;
 
@@ -65,25 +67,68 @@ public final class DelegatingCommandSuggestionEngine<C> implements CommandSugges
             final @NonNull CommandContext<C> context,
             final @NonNull String input
     ) {
-        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
-        final List<String> suggestions;
-        if (this.commandManager.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-            suggestions = this.commandManager.getCommandSuggestionProcessor().apply(
-                    new CommandPreprocessingContext<>(context, inputQueue),
-                    this.commandTree.getSuggestions(
-                            context,
-                            inputQueue
-                    )
-            );
-        } else {
-            suggestions = Collections.emptyList();
+        try {
+            return this.getSuggestionsFuture(context, input).join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
         }
-        if (this.commandManager.getSetting(CommandManager.ManagerSettings.FORCE_SUGGESTION) && suggestions.isEmpty()) {
-            return SINGLE_EMPTY_SUGGESTION;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull List<@NonNull String>> getSuggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        final List<String> suggestions = new ArrayList<>();
+        return this.streamSuggestions(context, input, SuggestionSink.collecting(suggestions)).thenApply(ignored -> suggestions);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@Nullable Void> streamSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final @NonNull SuggestionSink sink
+    ) {
+        final CommandInput commandInput = CommandInput.of(input);
+        /* Store a copy of the input in the context */
+        context.setCommandInput(commandInput.copy());
+        final CommandPreprocessingContext<C> preprocessingContext = new CommandPreprocessingContext<>(context, commandInput);
+        final boolean forceSuggestion = this.commandManager.getSetting(CommandManager.ManagerSettings.FORCE_SUGGESTION);
+        final SuggestionSink forcingSink = new SuggestionSink() {
+            private boolean accepted;
+
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                this.accepted = true;
+                return sink.accept(suggestion);
+            }
+
+            @Override
+            public void complete() {
+                if (forceSuggestion && !this.accepted) {
+                    sink.accept("");
+                }
+                sink.complete();
+            }
+        };
+        if (this.commandManager.preprocessContext(preprocessingContext) != State.ACCEPTED) {
+            forcingSink.complete();
+            return CompletableFuture.completedFuture(null);
         }
-        return suggestions;
+        final Queue<String> inputQueue = preprocessingContext.getInput();
+        final SuggestionSink processingSink = this.commandManager.getCommandSuggestionProcessor().sink(
+                preprocessingContext,
+                SuggestionSink.limit(context.getSuggestionLimit(), forcingSink)
+        );
+        return this.commandTree.streamSuggestions(
+                context,
+                inputQueue,
+                this.commandManager.getSuggestionSessions(),
+                processingSink
+        ).thenRun(processingSink::complete);
     }
 
 }
@@ -23,9 +23,11 @@
 //
 package cloud.commandframework.arguments;
 
+import cloud.commandframework.CommandManager;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -42,9 +44,24 @@ final class DelegatingSuggestionsProvider<C> implements BiFunction<@NonNull Comm
 
     @Override
     public @NonNull List<@NonNull String> apply(final @NonNull CommandContext<C> context, final @NonNull String s) {
+        final CommandManager<C> commandManager = context.getCommandManager();
+        if (commandManager != null) {
+            return commandManager.getSuggestionCache().getSuggestions(this.parser, context, s);
+        }
         return this.parser.suggestions(context, s);
     }
 
+    @NonNull CompletableFuture<@NonNull List<@NonNull String>> applyFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String s
+    ) {
+        final CommandManager<C> commandManager = context.getCommandManager();
+        if (commandManager != null && commandManager.getSuggestionCache().isCacheable(this.parser)) {
+            return CompletableFuture.completedFuture(commandManager.getSuggestionCache().getSuggestions(this.parser, context, s));
+        }
+        return this.parser.suggestionsFuture(context, s);
+    }
+
     @Override
     public String toString() {
         return String.format("DelegatingSuggestionsProvider{name='%s',parser='%s'}", this.argumentName,
@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -44,6 +46,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public final class StaticArgument<C> extends CommandArgument<C, String> {
 
+    private final List<Consumer<String>> aliasListeners = new CopyOnWriteArrayList<>();
+
     private StaticArgument(final boolean required, final @NonNull String name, final @NonNull String... aliases) {
         super(required, name, new StaticArgumentParser<>(name, aliases), String.class);
     }
@@ -64,12 +68,27 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
     }
 
     /**
-     * Register a new alias
+     * Register a new alias. Aliases may be registered after the argument has been inserted into
+     * a command tree, in which case the tree indexes the new alias
      *
      * @param alias New alias
      */
     public void registerAlias(final @NonNull String alias) {
         ((StaticArgumentParser<C>) this.getParser()).insertAlias(alias);
+        for (final Consumer<String> aliasListener : this.aliasListeners) {
+            aliasListener.accept(alias);
+        }
+    }
+
+    /**
+     * Add a listener that is invoked every time an alias is registered using {@link #registerAlias(String)}.
+     * This is used by the command tree to keep its index of literals up to date
+     *
+     * @param aliasListener Listener that accepts the new alias
+     * @since 1.7.0
+     */
+    public void addAliasListener(final @NonNull Consumer<@NonNull String> aliasListener) {
+        this.aliasListeners.add(aliasListener);
     }
 
     /**
@@ -24,9 +24,11 @@
 package cloud.commandframework.arguments.parser;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -74,6 +76,26 @@ public interface ArgumentParser<C, T> {
             @NonNull Queue<@NonNull String> inputQueue
     );
 
+    /**
+     * Parse command input into a command result, reading the input using a {@link CommandInput} cursor.
+     * <p>
+     * The command input is also a queue of the remaining tokens, and the default implementation
+     * delegates to {@link #parse(CommandContext, Queue)}. Parsers may override this method to read the
+     * input without allocating every token, for example when the parser consumes the remaining input.
+     * The same rules as for {@link #parse(CommandContext, Queue)} apply.
+     *
+     * @param commandContext Command context
+     * @param commandInput   The command input
+     * @return Parsed command result
+     * @since 1.7.0
+     */
+    default @NonNull ArgumentParseResult<@NonNull T> parse(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        return this.parse(commandContext, (Queue<String>) commandInput);
+    }
+
     /**
      * Get a list of suggested arguments that would be correctly parsed by this parser
      * <p>
@@ -91,6 +113,26 @@ public interface ArgumentParser<C, T> {
         return Collections.emptyList();
     }
 
+    /**
+     * Get a list of suggested arguments asynchronously. This should be overridden by parsers that need
+     * to look up their suggestions from slow sources, such as a database or a remote service, so that
+     * the suggestions can be computed without blocking the thread that requested them.
+     * <p>
+     * By default, this returns a completed future holding the result of {@link #suggestions(CommandContext, String)}.
+     * The command context must not be modified once this method has returned
+     *
+     * @param commandContext Command context
+     * @param input          Input string
+     * @return Future that completes with the list of suggestions
+     * @since 1.7.0
+     */
+    default @NonNull CompletableFuture<@NonNull List<@NonNull String>> suggestionsFuture(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull String input
+    ) {
+        return CompletableFuture.completedFuture(this.suggestions(commandContext, input));
+    }
+
     /**
      * Create a derived argument parser preserving all properties of this parser, but converting the output type.
      *
@@ -113,6 +155,18 @@ public interface ArgumentParser<C, T> {
         return false;
     }
 
+    /**
+     * Check whether or not the suggestions of this parser only depend on the input that they are
+     * requested for. The suggestions of parsers that are {@link #isContextFree() context free} and
+     * have static suggestions may be cached, see {@link cloud.commandframework.execution.SuggestionCache}
+     *
+     * @return {@code true} if the suggestions only depend on the input, else {@code false}
+     * @since 1.7.0
+     */
+    default boolean hasStaticSuggestions() {
+        return false;
+    }
+
     /**
      * Get the amount of arguments that this parsers seeks to
      * consume
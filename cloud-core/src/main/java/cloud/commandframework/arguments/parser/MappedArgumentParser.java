@@ -24,8 +24,10 @@
 package cloud.commandframework.arguments.parser;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -68,6 +70,15 @@ public final class MappedArgumentParser<C, I, O> implements ArgumentParser<C, O>
         return baseResult.flatMapParsedValue(value -> this.mapper.apply(commandContext, value));
     }
 
+    @Override
+    public @NonNull ArgumentParseResult<@NonNull O> parse(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        final ArgumentParseResult<@NonNull I> baseResult = this.base.parse(commandContext, commandInput);
+        return baseResult.flatMapParsedValue(value -> this.mapper.apply(commandContext, value));
+    }
+
     @Override
     public @NonNull List<@NonNull String> suggestions(
             final @NonNull CommandContext<C> commandContext,
@@ -76,6 +87,14 @@ public final class MappedArgumentParser<C, I, O> implements ArgumentParser<C, O>
         return this.base.suggestions(commandContext, input);
     }
 
+    @Override
+    public @NonNull CompletableFuture<@NonNull List<@NonNull String>> suggestionsFuture(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull String input
+    ) {
+        return this.base.suggestionsFuture(commandContext, input);
+    }
+
     @Override
     public @NonNull <O1> ArgumentParser<C, O1> map(final BiFunction<CommandContext<C>, O, ArgumentParseResult<O1>> mapper) {
         return new MappedArgumentParser<>(
@@ -89,6 +108,11 @@ public final class MappedArgumentParser<C, I, O> implements ArgumentParser<C, O>
         return this.base.isContextFree();
     }
 
+    @Override
+    public boolean hasStaticSuggestions() {
+        return this.base.hasStaticSuggestions();
+    }
+
     @Override
     public int getRequestedArgumentCount() {
         return this.base.getRequestedArgumentCount();
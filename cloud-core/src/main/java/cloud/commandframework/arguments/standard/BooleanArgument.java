@@ -225,6 +225,11 @@ public final class BooleanArgument<C> extends CommandArgument<C, Boolean> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
     }
 
 
@@ -236,6 +236,11 @@ public final class ByteArgument<C> extends CommandArgument<C, Byte> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -198,6 +198,11 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
     }
 
 
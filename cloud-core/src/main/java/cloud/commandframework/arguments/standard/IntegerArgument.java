@@ -326,6 +326,11 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -271,6 +271,11 @@ public final class LongArgument<C> extends CommandArgument<C, Long> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -228,6 +228,11 @@ public final class ShortArgument<C> extends CommandArgument<C, Short> {
             return true;
         }
 
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -30,13 +30,12 @@ import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.captions.CaptionVariable;
 import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
-import cloud.commandframework.util.StringUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
-import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -298,7 +297,25 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
-            final String input = inputQueue.peek();
+            if (inputQueue instanceof CommandInput) {
+                return this.parse(commandContext, (CommandInput) inputQueue);
+            }
+            final CommandInput commandInput = CommandInput.of(inputQueue);
+            final ArgumentParseResult<String> result = this.parse(commandContext, commandInput);
+            /* Remove the consumed tokens from the input queue */
+            final int consumedTokens = inputQueue.size() - commandInput.size();
+            for (int i = 0; i < consumedTokens; i++) {
+                inputQueue.remove();
+            }
+            return result;
+        }
+
+        @Override
+        public @NonNull ArgumentParseResult<String> parse(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            final String input = commandInput.peek();
             if (input == null) {
                 return ArgumentParseResult.failure(new NoInputProvidedException(
                         StringParser.class,
@@ -307,93 +324,58 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
             }
 
             if (this.stringMode == StringMode.SINGLE) {
-                inputQueue.remove();
+                commandInput.skip();
                 return ArgumentParseResult.success(input);
             } else if (this.stringMode == StringMode.QUOTED) {
-                return this.parseQuoted(commandContext, inputQueue);
+                return this.parseQuoted(commandContext, commandInput, input);
             } else {
-                return this.parseGreedy(commandContext, inputQueue);
+                return ArgumentParseResult.success(commandInput.readRemaining());
             }
         }
 
         private @NonNull ArgumentParseResult<String> parseQuoted(
                 final @NonNull CommandContext<C> commandContext,
-                final @NonNull Queue<@NonNull String> inputQueue
+                final @NonNull CommandInput commandInput,
+                final @NonNull String peek
         ) {
-            final String peek = inputQueue.peek();
-            if (peek != null && !peek.startsWith("'") && !peek.startsWith("\"")) {
-                inputQueue.remove();
+            if (!peek.startsWith("'") && !peek.startsWith("\"")) {
+                commandInput.skip();
                 return ArgumentParseResult.success(peek);
             }
 
-            final StringJoiner sj = new StringJoiner(" ");
-            for (final String string : inputQueue) {
-                sj.add(string);
-            }
-            final String string = sj.toString();
+            final String string = commandInput.peekRemaining();
 
             final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
-            String doubleMatch = null;
-            if (doubleMatcher.find()) {
-                doubleMatch = doubleMatcher.group("inner");
-            }
+            final boolean doubleMatch = doubleMatcher.find();
             final Matcher singleMatcher = QUOTED_SINGLE.matcher(string);
-            String singleMatch = null;
-            if (singleMatcher.find()) {
-                singleMatch = singleMatcher.group("inner");
-            }
-
-            String inner = null;
-            if (singleMatch != null && doubleMatch != null) {
-                final int singleIndex = string.indexOf(singleMatch);
-                final int doubleIndex = string.indexOf(doubleMatch);
-                inner = doubleIndex < singleIndex ? doubleMatch : singleMatch;
-            } else if (singleMatch == null && doubleMatch != null) {
-                inner = doubleMatch;
-            } else if (singleMatch != null) {
-                inner = singleMatch;
-            }
-
-            if (inner != null) {
-                final int numSpaces = StringUtils.countCharOccurrences(inner, ' ');
-                for (int i = 0; i <= numSpaces; i++) {
-                    inputQueue.remove();
-                }
+            final boolean singleMatch = singleMatcher.find();
+
+            final Matcher matcher;
+            if (singleMatch && doubleMatch) {
+                matcher = doubleMatcher.start() < singleMatcher.start() ? doubleMatcher : singleMatcher;
+            } else if (doubleMatch) {
+                matcher = doubleMatcher;
+            } else if (singleMatch) {
+                matcher = singleMatcher;
             } else {
-                inner = inputQueue.peek();
-                if (inner.startsWith("\"") || inner.startsWith("'")) {
-                    return ArgumentParseResult.failure(new StringParseException(sj.toString(),
-                            StringMode.QUOTED, commandContext
-                    ));
-                } else {
-                    inputQueue.remove();
-                }
+                return ArgumentParseResult.failure(new StringParseException(string,
+                        StringMode.QUOTED, commandContext
+                ));
             }
 
-            inner = inner.replace("\\\"", "\"").replace("\\'", "'");
-
-            return ArgumentParseResult.success(inner);
-        }
-
-        private @NonNull ArgumentParseResult<String> parseGreedy(
-                final @NonNull CommandContext<C> commandContext,
-                final @NonNull Queue<@NonNull String> inputQueue
-        ) {
-            final StringJoiner sj = new StringJoiner(" ");
-            final int size = inputQueue.size();
-
-            for (int i = 0; i < size; i++) {
-                final String string = inputQueue.peek();
-
-                if (string == null) {
-                    break;
+            /* Skip every token that starts before the end of the quoted string */
+            boolean inToken = false;
+            for (int i = 0; i < matcher.end(); i++) {
+                if (string.charAt(i) == ' ') {
+                    inToken = false;
+                } else if (!inToken) {
+                    inToken = true;
+                    commandInput.skip();
                 }
-
-                sj.add(string);
-                inputQueue.remove();
             }
 
-            return ArgumentParseResult.success(sj.toString());
+            final String inner = matcher.group("inner").replace("\\\"", "\"").replace("\\'", "'");
+            return ArgumentParseResult.success(inner);
         }
 
         @Override
@@ -35,12 +35,17 @@ import cloud.commandframework.captions.SimpleCaptionVariableReplacementHandler;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.CloudKeyHolder;
 import cloud.commandframework.keys.SimpleCloudKey;
+import cloud.commandframework.permission.AndPermission;
 import cloud.commandframework.permission.CommandPermission;
+import cloud.commandframework.permission.OrPermission;
+import cloud.commandframework.permission.Permission;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -52,17 +57,25 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public final class CommandContext<C> {
 
+    private static final int DEFAULT_SLOT_COUNT = 8;
+
     private final CaptionVariableReplacementHandler captionVariableReplacementHandler =
             new SimpleCaptionVariableReplacementHandler();
     private final Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings = new HashMap<>();
     private final FlagContext flagContext = FlagContext.create();
     private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
+    /* Suggestion providers and lazily computed exception details may check permissions from other threads */
+    private final Map<CommandPermission, Boolean> permissionCache = new ConcurrentHashMap<>();
     private final C commandSender;
     private final boolean suggestions;
     private final CaptionRegistry<C> captionRegistry;
     private final CommandManager<C> commandManager;
 
     private CommandArgument<C, ?> currentArgument = null;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private CloudKey<?> @Nullable [] slotKeys = null;
+    private Object @Nullable [] slotValues = null;
+    private boolean slotsShadowed = false;
 
     /**
      * Create a new command context instance
@@ -152,26 +165,63 @@ public final class CommandContext<C> {
         return this.commandSender;
     }
 
+    /**
+     * Get the command manager that created this context
+     *
+     * @return Command manager, or {@code null} if the context was created with a caption registry
+     * @since 1.7.0
+     */
+    public @Nullable CommandManager<C> getCommandManager() {
+        return this.commandManager;
+    }
+
     /**
      * Check whether the sender that executed the command has a permission.
+     * <p>
+     * The result is cached for the lifetime of this context, so that each distinct
+     * permission is only checked once per command execution or suggestion request.
+     * The permissions may be checked concurrently.
      *
      * @param permission The permission
      * @return Command sender
      * @since 1.6.0
      */
     public boolean hasPermission(final @NonNull CommandPermission permission) {
-        return this.commandManager.hasPermission(this.commandSender, permission);
+        final Boolean cachedResult = this.permissionCache.get(permission);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        final boolean result;
+        if (permission instanceof OrPermission) {
+            result = permission.getPermissions().stream().anyMatch(this::hasPermission);
+        } else if (permission instanceof AndPermission) {
+            result = permission.getPermissions().stream().allMatch(this::hasPermission);
+        } else {
+            result = this.commandManager.hasPermission(this.commandSender, permission);
+        }
+        /* The composite permissions recurse into this method, so the result is not computed within the map */
+        final Boolean concurrentResult = this.permissionCache.putIfAbsent(permission, result);
+        return concurrentResult == null ? result : concurrentResult;
     }
 
     /**
      * Check whether the sender that executed the command has a permission.
+     * <p>
+     * The result is cached for the lifetime of this context, see {@link #hasPermission(CommandPermission)}.
      *
      * @param permission The permission
      * @return Command sender
      * @since 1.6.0
      */
     public boolean hasPermission(final @NonNull String permission) {
-        return this.commandManager.hasPermission(this.commandSender, permission);
+        final CommandPermission key = Permission.of(permission);
+        final Boolean cachedResult = this.permissionCache.get(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        final boolean result = this.commandManager.hasPermission(this.commandSender, permission);
+        final Boolean concurrentResult = this.permissionCache.putIfAbsent(key, result);
+        return concurrentResult == null ? result : concurrentResult;
     }
 
     /**
@@ -192,7 +242,7 @@ public final class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T> void store(final @NonNull String key, final @NonNull T value) {
-        this.internalStorage.put(SimpleCloudKey.of(key), value);
+        this.storeInMap(SimpleCloudKey.of(key), value);
     }
 
     /**
@@ -204,7 +254,46 @@ public final class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T> void store(final @NonNull CloudKey<T> key, final @NonNull T value) {
-        this.internalStorage.put(key, value);
+        this.storeInMap(key, value);
+    }
+
+    /**
+     * Store a value in an indexed slot of the context. This is used by the command tree to store
+     * parsed arguments, in which case the slot is the {@link CommandArgument#getSlot() slot of the argument}.
+     * Values stored in slots are retrieved through their key like any other value, and are
+     * looked up without hashing the key when they are retrieved through their argument.
+     * <p>
+     * This will overwrite any existing value stored with the same key. If the slot is occupied
+     * by a different key, that value is kept in the context map instead. A key should always be
+     * stored in the same slot.
+     *
+     * @param slot  Slot index
+     * @param key   Key
+     * @param value Value
+     * @param <T>   Value type
+     * @since 1.7.0
+     */
+    public <T> void store(final int slot, final @NonNull CloudKey<T> key, final @NonNull T value) {
+        if (slot < 0) {
+            throw new IllegalArgumentException("Slot index cannot be negative: " + slot);
+        }
+        if (this.slotKeys == null) {
+            this.slotKeys = new CloudKey<?>[Math.max(DEFAULT_SLOT_COUNT, slot + 1)];
+            this.slotValues = new Object[this.slotKeys.length];
+        } else if (slot >= this.slotKeys.length) {
+            final int length = Math.max(this.slotKeys.length * 2, slot + 1);
+            this.slotKeys = Arrays.copyOf(this.slotKeys, length);
+            this.slotValues = Arrays.copyOf(this.slotValues, length);
+        }
+        final CloudKey<?> currentKey = this.slotKeys[slot];
+        if (currentKey != null && currentKey != key && !currentKey.equals(key)) {
+            this.internalStorage.putIfAbsent(currentKey, this.slotValues[slot]);
+        }
+        if (!this.internalStorage.isEmpty()) {
+            this.internalStorage.remove(key);
+        }
+        this.slotKeys[slot] = key;
+        this.slotValues[slot] = value;
     }
 
     /**
@@ -229,7 +318,12 @@ public final class CommandContext<C> {
      * @since 1.4.0
      */
     public <T> void store(final @NonNull CloudKeyHolder<T> keyHolder, final @NonNull T value) {
-        this.internalStorage.put(keyHolder.getKey(), value);
+        final int slot = keyHolder instanceof CommandArgument ? ((CommandArgument<?, ?>) keyHolder).getSlot() : -1;
+        if (slot >= 0) {
+            this.store(slot, keyHolder.getKey(), value);
+        } else {
+            this.storeInMap(keyHolder.getKey(), value);
+        }
     }
 
     /**
@@ -278,7 +372,7 @@ public final class CommandContext<C> {
      * @since 1.3.0
      */
     public boolean contains(final @NonNull String key) {
-        return this.contains(SimpleCloudKey.of(key));
+        return this.lookup(key) != null;
     }
 
     /**
@@ -289,7 +383,7 @@ public final class CommandContext<C> {
      * @since 1.4.0
      */
     public boolean contains(final @NonNull CloudKey<?> key) {
-        return this.internalStorage.containsKey(key);
+        return this.lookup(key) != null;
     }
 
     /**
@@ -300,6 +394,13 @@ public final class CommandContext<C> {
      */
     public @NonNull Map<@NonNull String, @Nullable ?> asMap() {
         final Map<String, Object> values = new HashMap<>();
+        if (this.slotKeys != null) {
+            for (int i = 0; i < this.slotKeys.length; i++) {
+                if (this.slotKeys[i] != null) {
+                    values.put(this.slotKeys[i].getName(), this.slotValues[i]);
+                }
+            }
+        }
         this.internalStorage.forEach((key, value) -> values.put(key.getName(), value));
         return Collections.unmodifiableMap(values);
     }
@@ -313,7 +414,7 @@ public final class CommandContext<C> {
      * @return Value
      */
     public <T> @NonNull Optional<T> getOptional(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -332,7 +433,7 @@ public final class CommandContext<C> {
      * @since 1.4.0
      */
     public <T> @NonNull Optional<T> getOptional(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -365,7 +466,7 @@ public final class CommandContext<C> {
      */
     @SuppressWarnings("unused")
     public <T> @NonNull Optional<T> getOptional(final @NonNull CloudKeyHolder<T> keyHolder) {
-        final Object value = this.internalStorage.get(keyHolder.getKey());
+        final Object value = this.lookup(keyHolder);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -380,7 +481,8 @@ public final class CommandContext<C> {
      * @param key Key to remove
      */
     public void remove(final @NonNull String key) {
-        this.remove(SimpleCloudKey.of(key));
+        this.internalStorage.remove(SimpleCloudKey.of(key));
+        this.clearSlot(this.slotOf(key));
     }
 
     /**
@@ -391,6 +493,7 @@ public final class CommandContext<C> {
      */
     public void remove(final @NonNull CloudKey<?> key) {
         this.internalStorage.remove(key);
+        this.clearSlot(this.slotOf(key));
     }
 
     /**
@@ -404,7 +507,7 @@ public final class CommandContext<C> {
      */
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     public <T> @NonNull T get(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -423,7 +526,7 @@ public final class CommandContext<C> {
      */
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     public <T> @NonNull T get(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -440,7 +543,7 @@ public final class CommandContext<C> {
      * @throws NullPointerException If no such value is stored
      */
     public <T> @NonNull T get(final @NonNull CommandArgument<C, T> keyHolder) {
-        return this.get(keyHolder.getKey());
+        return this.get((CloudKeyHolder<T>) keyHolder);
     }
 
     /**
@@ -453,8 +556,13 @@ public final class CommandContext<C> {
      * @throws NullPointerException If no such value is stored
      * @since 1.4.0
      */
+    @SuppressWarnings("unchecked")
     public <T> @NonNull T get(final @NonNull CloudKeyHolder<T> keyHolder) {
-        return this.get(keyHolder.getKey());
+        final Object value = this.lookup(keyHolder);
+        if (value == null) {
+            throw new NullPointerException("No such object stored in the context: " + keyHolder.getKey());
+        }
+        return (T) value;
     }
 
     /**
@@ -536,12 +644,45 @@ public final class CommandContext<C> {
     }
 
     /**
-     * Get the raw input.
+     * Get the raw input. The token list is created from the {@link #getCommandInput() command input} when it is
+     * first requested, and the same list is returned by subsequent calls
      *
      * @return Raw input in token form
      */
     public @NonNull LinkedList<@NonNull String> getRawInput() {
-        return this.getOrDefault("__raw_input__", new LinkedList<>());
+        final LinkedList<String> rawInput = this.getOrDefault("__raw_input__", null);
+        if (rawInput != null) {
+            return rawInput;
+        }
+        final CommandInput commandInput = this.getOrDefault("__command_input__", null);
+        if (commandInput == null) {
+            return new LinkedList<>();
+        }
+        final LinkedList<String> tokens = new LinkedList<>(commandInput);
+        this.store("__raw_input__", tokens);
+        return tokens;
+    }
+
+    /**
+     * Get the raw input, as a command input that has not been read from
+     *
+     * @return Copy of the raw input, or {@link Optional#empty()} if no input has been stored
+     * @since 1.7.0
+     */
+    public @NonNull Optional<CommandInput> getCommandInput() {
+        return this.<CommandInput>getOptional("__command_input__").map(CommandInput::copy);
+    }
+
+    /**
+     * Store the raw input. This should be a command input that has not been read from,
+     * and the input should not be read from after it has been stored
+     *
+     * @param commandInput Raw input
+     * @since 1.7.0
+     */
+    public void setCommandInput(final @NonNull CommandInput commandInput) {
+        this.store("__command_input__", commandInput);
+        this.remove("__raw_input__");
     }
 
     /**
@@ -551,7 +692,13 @@ public final class CommandContext<C> {
      * @since 1.1.0
      */
     public @NonNull String getRawInputJoined() {
-        return String.join(" ", this.getRawInput());
+        final LinkedList<String> rawInput = this.getOrDefault("__raw_input__", null);
+        if (rawInput != null) {
+            return String.join(" ", rawInput);
+        }
+        /* The tokens are joined straight from the input, without materializing the token list */
+        final CommandInput commandInput = this.getOrDefault("__command_input__", null);
+        return commandInput == null ? "" : String.join(" ", commandInput);
     }
 
     /**
@@ -567,7 +714,10 @@ public final class CommandContext<C> {
     }
 
     /**
-     * Get an immutable view of the argument timings map
+     * Get an immutable view of the argument timings map.
+     * <p>
+     * The timings are only stored in the context when the command manager uses
+     * {@link cloud.commandframework.execution.ArgumentTimingRecorder#contextRecorder()}
      *
      * @return Argument timings
      */
@@ -608,6 +758,31 @@ public final class CommandContext<C> {
         this.currentArgument = argument;
     }
 
+    /**
+     * Get the maximum amount of suggestions that were requested using this context. Suggestion
+     * providers may use this to stop producing suggestions early. The limit is a hint, and providers
+     * are allowed to return more suggestions than requested
+     *
+     * @return Suggestion limit, {@link Integer#MAX_VALUE} if no limit was requested
+     * @since 1.7.0
+     */
+    public int getSuggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    /**
+     * Set the maximum amount of suggestions that are requested using this context
+     *
+     * @param suggestionLimit Suggestion limit
+     * @since 1.7.0
+     */
+    public void setSuggestionLimit(final int suggestionLimit) {
+        if (suggestionLimit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive: " + suggestionLimit);
+        }
+        this.suggestionLimit = suggestionLimit;
+    }
+
     /**
      * Attempt to retrieve a value that has been registered to the associated command manager's
      * {@link cloud.commandframework.annotations.injection.ParameterInjectorRegistry}
@@ -716,4 +891,86 @@ public final class CommandContext<C> {
 
     }
 
+    private void storeInMap(final @NonNull CloudKey<?> key, final @NonNull Object value) {
+        this.internalStorage.put(key, value);
+        if (this.slotKeys != null) {
+            /* The value may replace the value of an argument, so arguments can no longer be looked up by their slot only */
+            this.slotsShadowed = true;
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        if (slot != -1) {
+            this.slotKeys[slot] = null;
+            this.slotValues[slot] = null;
+        }
+    }
+
+    private int slotOf(final @NonNull CloudKey<?> key) {
+        if (this.slotKeys == null) {
+            return -1;
+        }
+        for (int i = 0; i < this.slotKeys.length; i++) {
+            final CloudKey<?> slotKey = this.slotKeys[i];
+            if (slotKey == key || (slotKey != null && slotKey.equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(final @NonNull String key) {
+        if (this.slotKeys == null) {
+            return -1;
+        }
+        for (int i = 0; i < this.slotKeys.length; i++) {
+            final CloudKey<?> slotKey = this.slotKeys[i];
+            if (slotKey instanceof SimpleCloudKey && slotKey.getName().equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private @Nullable Object lookup(final @NonNull CloudKeyHolder<?> keyHolder) {
+        final CloudKey<?> key = keyHolder.getKey();
+        if (keyHolder instanceof CommandArgument && this.slotKeys != null && !this.slotsShadowed) {
+            final int slot = ((CommandArgument<?, ?>) keyHolder).getSlot();
+            if (slot >= 0 && slot < this.slotKeys.length) {
+                final CloudKey<?> slotKey = this.slotKeys[slot];
+                if (slotKey == key || (slotKey != null && slotKey.equals(key))) {
+                    return this.slotValues[slot];
+                }
+            }
+        }
+        return this.lookup(key);
+    }
+
+    /* Values stored by key are kept in the map, and the values of parsed arguments in the slots */
+    private @Nullable Object lookup(final @NonNull CloudKey<?> key) {
+        final Object value = this.internalStorage.get(key);
+        if (value != null) {
+            return value;
+        }
+        final int slot = this.slotOf(key);
+        return slot == -1 ? null : this.slotValues[slot];
+    }
+
+    private @Nullable Object lookup(final @NonNull String key) {
+        if (!this.slotsShadowed) {
+            /* Names usually refer to arguments, and no map value can replace them, so the slots are searched first */
+            final int slot = this.slotOf(key);
+            if (slot != -1) {
+                return this.slotValues[slot];
+            }
+            return this.internalStorage.get(SimpleCloudKey.of(key));
+        }
+        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        if (value != null) {
+            return value;
+        }
+        final int slot = this.slotOf(key);
+        return slot == -1 ? null : this.slotValues[slot];
+    }
+
 }
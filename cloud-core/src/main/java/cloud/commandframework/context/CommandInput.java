@@ -0,0 +1,369 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Command input that is read using a cursor over the original input string.
+ * <p>
+ * The input is split into tokens at every blank space, in the same way as
+ * {@link cloud.commandframework.internal.CommandInputTokenizer}. The tokens are not
+ * allocated until they are read, and skipping a token does not allocate anything.
+ * <p>
+ * The command input is also a {@link Queue} of the remaining tokens, which allows it to be
+ * passed to parsers that consume the input as a queue. Tokens that are added to the queue
+ * are appended after the remaining input.
+ *
+ * @since 1.7.0
+ */
+public final class CommandInput extends AbstractQueue<@NonNull String> {
+
+    private static final char DELIMITER = ' ';
+    private static final String EMPTY = "";
+
+    private final String input;
+    private int cursor;
+    private int remainingTokens;
+    private @Nullable String currentToken;
+    private @Nullable Deque<@NonNull String> appendedTokens;
+
+    private CommandInput(
+            final @NonNull String input,
+            final int cursor,
+            final int remainingTokens,
+            final @Nullable String currentToken,
+            final @Nullable Deque<@NonNull String> appendedTokens
+    ) {
+        this.input = input;
+        this.cursor = cursor;
+        this.remainingTokens = remainingTokens;
+        this.currentToken = currentToken;
+        this.appendedTokens = appendedTokens;
+    }
+
+    /**
+     * Create a new command input that reads the given string
+     *
+     * @param input Input string
+     * @return Command input
+     */
+    public static @NonNull CommandInput of(final @NonNull String input) {
+        return new CommandInput(input, skipDelimiters(input, 0), countTokens(input), null, null);
+    }
+
+    /**
+     * Create a new command input that reads the tokens of the given queue. The queue is copied,
+     * and consuming the command input will not modify the queue
+     *
+     * @param inputQueue Input queue
+     * @return Command input
+     */
+    public static @NonNull CommandInput of(final @NonNull Queue<@NonNull String> inputQueue) {
+        return new CommandInput(EMPTY, 0, 0, null, new ArrayDeque<>(inputQueue));
+    }
+
+    private static int countTokens(final @NonNull String input) {
+        int tokens = 0;
+        boolean inToken = false;
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) == DELIMITER) {
+                inToken = false;
+            } else if (!inToken) {
+                inToken = true;
+                tokens++;
+            }
+        }
+        /* Trailing blank spaces produce an empty token */
+        if (!input.isEmpty() && input.charAt(input.length() - 1) == DELIMITER) {
+            tokens++;
+        }
+        return tokens;
+    }
+
+    private static int skipDelimiters(final @NonNull String input, final int index) {
+        int position = index;
+        while (position < input.length() && input.charAt(position) == DELIMITER) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Get the original input string
+     *
+     * @return Input string
+     */
+    public @NonNull String getInput() {
+        return this.input;
+    }
+
+    /**
+     * Get the position of the cursor in the original input string. This is the index
+     * of the first character of the next token, or the length of the input if all tokens
+     * from the input string have been read
+     *
+     * @return Cursor position
+     */
+    public int getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Create a copy of this command input. The copy shares the input string, and reading from
+     * the copy will not move the cursor of this input
+     *
+     * @return Copy of the command input
+     */
+    public @NonNull CommandInput copy() {
+        return new CommandInput(
+                this.input,
+                this.cursor,
+                this.remainingTokens,
+                this.currentToken,
+                this.appendedTokens == null ? null : new ArrayDeque<>(this.appendedTokens)
+        );
+    }
+
+    /**
+     * Mark the current position of the cursor, so that the input may later be rewound to it using
+     * {@link #rewind(Mark)}. Marking the input does not copy the remaining tokens of the input string
+     *
+     * @return Mark of the current position
+     */
+    public @NonNull Mark mark() {
+        return new Mark(
+                this,
+                this.cursor,
+                this.remainingTokens,
+                this.currentToken,
+                this.appendedTokens == null || this.appendedTokens.isEmpty() ? null : new ArrayDeque<>(this.appendedTokens)
+        );
+    }
+
+    /**
+     * Move the cursor back to a previously marked position. Everything that has been read or skipped
+     * since the position was marked becomes available again, and tokens that have been added to the
+     * queue since then are removed
+     *
+     * @param mark Mark created by {@link #mark()}
+     * @throws IllegalArgumentException If the mark was created by another command input
+     */
+    public void rewind(final @NonNull Mark mark) {
+        if (mark.commandInput != this) {
+            throw new IllegalArgumentException("The mark was created by another command input");
+        }
+        this.cursor = mark.cursor;
+        this.remainingTokens = mark.remainingTokens;
+        this.currentToken = mark.currentToken;
+        this.appendedTokens = mark.appendedTokens == null ? null : new ArrayDeque<>(mark.appendedTokens);
+    }
+
+    /**
+     * Read the next token and move the cursor past it
+     *
+     * @return The token
+     * @throws NoSuchElementException If there is no remaining input
+     */
+    public @NonNull String read() {
+        final String token = this.poll();
+        if (token == null) {
+            throw new NoSuchElementException();
+        }
+        return token;
+    }
+
+    /**
+     * Move the cursor past the next token, without reading it
+     *
+     * @throws NoSuchElementException If there is no remaining input
+     */
+    public void skip() {
+        if (this.remainingTokens > 0) {
+            this.advance();
+        } else if (this.appendedTokens != null && !this.appendedTokens.isEmpty()) {
+            this.appendedTokens.removeFirst();
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Move the cursor past the given number of tokens, without reading them
+     *
+     * @param tokens Number of tokens to skip
+     * @throws NoSuchElementException If there are fewer remaining tokens than the number of tokens to skip
+     */
+    public void skip(final int tokens) {
+        for (int i = 0; i < tokens; i++) {
+            this.skip();
+        }
+    }
+
+    /**
+     * Get the remaining input as a string, without moving the cursor. Blank spaces in the
+     * input string are preserved
+     *
+     * @return Remaining input
+     */
+    public @NonNull String peekRemaining() {
+        final String remaining = this.remainingTokens > 0 ? this.input.substring(this.cursor) : EMPTY;
+        if (this.appendedTokens == null || this.appendedTokens.isEmpty()) {
+            return remaining;
+        }
+        final String appended = String.join(String.valueOf(DELIMITER), this.appendedTokens);
+        return this.remainingTokens > 0 ? remaining + DELIMITER + appended : appended;
+    }
+
+    /**
+     * Read the remaining input as a string, and move the cursor to the end of the input.
+     * Blank spaces in the input string are preserved
+     *
+     * @return Remaining input
+     */
+    public @NonNull String readRemaining() {
+        final String remaining = this.peekRemaining();
+        this.clear();
+        return remaining;
+    }
+
+    @Override
+    public @Nullable String peek() {
+        if (this.remainingTokens > 0) {
+            if (this.currentToken == null) {
+                this.currentToken = this.input.substring(this.cursor, this.tokenEnd());
+            }
+            return this.currentToken;
+        }
+        return this.appendedTokens == null ? null : this.appendedTokens.peekFirst();
+    }
+
+    @Override
+    public @Nullable String poll() {
+        if (this.remainingTokens > 0) {
+            final String token = this.peek();
+            this.advance();
+            return token;
+        }
+        return this.appendedTokens == null ? null : this.appendedTokens.pollFirst();
+    }
+
+    @Override
+    public boolean offer(final @NonNull String token) {
+        if (this.appendedTokens == null) {
+            this.appendedTokens = new ArrayDeque<>();
+        }
+        return this.appendedTokens.offer(token);
+    }
+
+    @Override
+    public int size() {
+        return this.remainingTokens + (this.appendedTokens == null ? 0 : this.appendedTokens.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        this.cursor = this.input.length();
+        this.remainingTokens = 0;
+        this.currentToken = null;
+        this.appendedTokens = null;
+    }
+
+    @Override
+    public @NonNull Iterator<@NonNull String> iterator() {
+        final CommandInput copy = this.copy();
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return !copy.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                return copy.read();
+            }
+        };
+    }
+
+    private int tokenEnd() {
+        final int end = this.input.indexOf(DELIMITER, this.cursor);
+        return end == -1 ? this.input.length() : end;
+    }
+
+    private void advance() {
+        this.cursor = skipDelimiters(this.input, this.tokenEnd());
+        this.remainingTokens--;
+        this.currentToken = null;
+    }
+
+
+    /**
+     * Position of the cursor of a {@link CommandInput}, see {@link CommandInput#mark()}
+     */
+    public static final class Mark {
+
+        private final CommandInput commandInput;
+        private final int cursor;
+        private final int remainingTokens;
+        private final @Nullable String currentToken;
+        private final @Nullable Deque<@NonNull String> appendedTokens;
+
+        private Mark(
+                final @NonNull CommandInput commandInput,
+                final int cursor,
+                final int remainingTokens,
+                final @Nullable String currentToken,
+                final @Nullable Deque<@NonNull String> appendedTokens
+        ) {
+            this.commandInput = commandInput;
+            this.cursor = cursor;
+            this.remainingTokens = remainingTokens;
+            this.currentToken = currentToken;
+            this.appendedTokens = appendedTokens;
+        }
+
+        /**
+         * Get the marked cursor position
+         *
+         * @return Cursor position
+         */
+        public int getCursor() {
+            return this.cursor;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.exceptions;
+
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Exception used to complete the result of a command that was not executed because the execution
+ * coordinator was overloaded. Platforms may use this to inform the sender that the server is busy
+ *
+ * @since 1.7.0
+ */
+public class CommandExecutionRejectedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 2394619226354127165L;
+    private final CommandContext<?> commandContext;
+    private final boolean dropped;
+
+    /**
+     * Construct a new command execution rejected exception
+     *
+     * @param commandContext Context of the command that was rejected
+     * @param dropped        Whether the command was queued and then dropped to make room for a newer command
+     */
+    public CommandExecutionRejectedException(final @NonNull CommandContext<?> commandContext, final boolean dropped) {
+        super(dropped ? "Queued command execution was dropped" : "Command execution was rejected");
+        this.commandContext = commandContext;
+        this.dropped = dropped;
+    }
+
+    /**
+     * Get the context of the command that was rejected
+     *
+     * @return Command context
+     */
+    public @NonNull CommandContext<?> getCommandContext() {
+        return this.commandContext;
+    }
+
+    /**
+     * Check whether the command was accepted into the queue, and then dropped to make room for a newer command
+     *
+     * @return {@code true} if the command was dropped from the queue, {@code false} if it was never queued
+     */
+    public boolean isDropped() {
+        return this.dropped;
+    }
+
+    @Override
+    public final synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public final synchronized Throwable initCause(final Throwable cause) {
+        return this;
+    }
+
+}
@@ -0,0 +1,66 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.exceptions;
+
+import cloud.commandframework.context.CommandContext;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Exception used to complete the result of a command whose handler did not finish within its timeout
+ *
+ * @since 1.7.0
+ */
+public class CommandExecutionTimeoutException extends CommandExecutionException {
+
+    private static final long serialVersionUID = -1630386573613917127L;
+    private final Duration timeout;
+
+    /**
+     * Construct a new command execution timeout exception
+     *
+     * @param timeout        Timeout that was exceeded
+     * @param commandContext Command context
+     */
+    public CommandExecutionTimeoutException(final @NonNull Duration timeout, final @NonNull CommandContext<?> commandContext) {
+        super(new TimeoutException(String.format("Command execution timed out after %dms", timeout.toMillis())), commandContext);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the timeout that was exceeded
+     *
+     * @return Timeout
+     */
+    public @NonNull Duration getTimeout() {
+        return this.timeout;
+    }
+
+    @Override
+    public final synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+}
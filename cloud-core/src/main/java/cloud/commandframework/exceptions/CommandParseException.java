@@ -24,8 +24,11 @@
 package cloud.commandframework.exceptions;
 
 import cloud.commandframework.arguments.CommandArgument;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -36,7 +39,9 @@ public class CommandParseException extends IllegalArgumentException {
 
     private static final long serialVersionUID = -2415981126382517435L;
     private final Object commandSender;
-    private final List<CommandArgument<?, ?>> currentChain;
+    private final transient Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChainSupplier;
+    private List<CommandArgument<?, ?>> currentChain;
+    private final boolean writableStackTrace;
 
     /**
      * Construct a new command parse exception
@@ -47,9 +52,30 @@ public class CommandParseException extends IllegalArgumentException {
     protected CommandParseException(
             final @NonNull Object commandSender,
             final @NonNull List<CommandArgument<?, ?>> currentChain
+    ) {
+        this(commandSender, () -> currentChain, true);
+    }
+
+    /**
+     * Construct a new command parse exception. The chain is computed when it is first accessed
+     *
+     * @param commandSender      Sender who executed the command
+     * @param currentChain       Supplier of the chain leading up to the exception
+     * @param writableStackTrace Whether or not the stack trace should be filled in
+     * @since 1.7.0
+     */
+    protected CommandParseException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain,
+            final boolean writableStackTrace
     ) {
         this.commandSender = commandSender;
-        this.currentChain = currentChain;
+        this.currentChainSupplier = currentChain;
+        this.writableStackTrace = writableStackTrace;
+        /* The stack trace is filled in once the fields have been initialized, so that it may be omitted */
+        if (writableStackTrace) {
+            this.fillInStackTrace();
+        }
     }
 
     /**
@@ -67,7 +93,24 @@ public class CommandParseException extends IllegalArgumentException {
      * @return Unmodifiable list of command arguments
      */
     public @NonNull List<@NonNull CommandArgument<?, ?>> getCurrentChain() {
+        if (this.currentChain == null) {
+            /* The supplier is not serialized, but the chain is always computed before the exception is written */
+            this.currentChain = this.currentChainSupplier == null ? Collections.emptyList() : this.currentChainSupplier.get();
+        }
         return Collections.unmodifiableList(this.currentChain);
     }
 
+    private void writeObject(final @NonNull ObjectOutputStream outputStream) throws IOException {
+        this.getCurrentChain();
+        outputStream.defaultWriteObject();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (!this.writableStackTrace) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
 }
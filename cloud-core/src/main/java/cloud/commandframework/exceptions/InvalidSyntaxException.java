@@ -24,7 +24,10 @@
 package cloud.commandframework.exceptions;
 
 import cloud.commandframework.arguments.CommandArgument;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.List;
+import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -34,7 +37,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public class InvalidSyntaxException extends CommandParseException {
 
     private static final long serialVersionUID = -4183356059293785202L;
-    private final String correctSyntax;
+    private final transient Supplier<@NonNull String> correctSyntaxSupplier;
+    private String correctSyntax;
 
     /**
      * Create a new invalid syntax exception instance
@@ -49,22 +53,52 @@ public class InvalidSyntaxException extends CommandParseException {
             final @NonNull List<@NonNull CommandArgument<?, ?>> currentChain
     ) {
         super(commandSender, currentChain);
+        this.correctSyntaxSupplier = () -> correctSyntax;
         this.correctSyntax = correctSyntax;
     }
 
+    /**
+     * Create a new invalid syntax exception instance. The syntax and the chain are computed
+     * when they are first accessed
+     *
+     * @param correctSyntax      Supplier of the expected syntax
+     * @param commandSender      Sender that sent the command
+     * @param currentChain       Supplier of the chain leading up to issue
+     * @param writableStackTrace Whether or not the stack trace should be filled in
+     * @since 1.7.0
+     */
+    public InvalidSyntaxException(
+            final @NonNull Supplier<@NonNull String> correctSyntax,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain,
+            final boolean writableStackTrace
+    ) {
+        super(commandSender, currentChain, writableStackTrace);
+        this.correctSyntaxSupplier = correctSyntax;
+    }
+
     /**
      * Get the correct syntax of the command
      *
      * @return Correct command syntax
      */
     public @NonNull String getCorrectSyntax() {
+        if (this.correctSyntax == null) {
+            /* The supplier is not serialized, but the syntax is always computed before the exception is written */
+            this.correctSyntax = this.correctSyntaxSupplier == null ? "" : this.correctSyntaxSupplier.get();
+        }
         return this.correctSyntax;
     }
 
+    private void writeObject(final @NonNull ObjectOutputStream outputStream) throws IOException {
+        this.getCorrectSyntax();
+        outputStream.defaultWriteObject();
+    }
+
 
     @Override
     public final String getMessage() {
-        return String.format("Invalid command syntax. Correct syntax is: %s", this.correctSyntax);
+        return String.format("Invalid command syntax. Correct syntax is: %s", this.getCorrectSyntax());
     }
 
 }
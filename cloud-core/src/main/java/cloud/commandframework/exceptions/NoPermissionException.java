@@ -27,6 +27,7 @@ import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.permission.CommandPermission;
 import java.util.List;
+import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -55,6 +56,23 @@ public class NoPermissionException extends CommandParseException {
         this.missingPermission = missingPermission;
     }
 
+    /**
+     * Construct a new no permission exception. The chain is computed when it is first accessed
+     *
+     * @param missingPermission Missing permission node
+     * @param commandSender     Command sender
+     * @param currentChain      Supplier of the chain leading up to the exception
+     * @since 1.7.0
+     */
+    public NoPermissionException(
+            final @NonNull CommandPermission missingPermission,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain
+    ) {
+        super(commandSender, currentChain, false);
+        this.missingPermission = missingPermission;
+    }
+
     @Override
     public final String getMessage() {
         return String.format("Missing permission '%s'", this.missingPermission);
@@ -24,8 +24,13 @@
 package cloud.commandframework.exceptions;
 
 import cloud.commandframework.arguments.CommandArgument;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Exception thrown when a command sender tries to execute
@@ -34,8 +39,17 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @SuppressWarnings("unused")
 public final class NoSuchCommandException extends CommandParseException {
 
+    /**
+     * Maximum amount of close matches that are attached to the exception by the command tree
+     *
+     * @since 1.7.0
+     */
+    public static final int MAXIMUM_CLOSE_MATCHES = 5;
+
     private static final long serialVersionUID = -7775865652882764771L;
     private final String suppliedCommand;
+    private transient @Nullable Supplier<@NonNull List<@NonNull String>> closeMatchesSupplier;
+    private @Nullable List<@NonNull String> closeMatches;
 
     /**
      * Construct a no such command exception
@@ -53,6 +67,44 @@ public final class NoSuchCommandException extends CommandParseException {
         this.suppliedCommand = command;
     }
 
+    /**
+     * Construct a no such command exception. The chain is computed when it is first accessed
+     *
+     * @param commandSender Sender who executed the command
+     * @param currentChain  Supplier of the chain leading up to the exception
+     * @param command       Entered command (following the command chain)
+     * @since 1.7.0
+     */
+    public NoSuchCommandException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<CommandArgument<?, ?>>> currentChain,
+            final @NonNull String command
+    ) {
+        super(commandSender, currentChain, false);
+        this.suppliedCommand = command;
+    }
+
+    /**
+     * Construct a no such command exception. The chain and the close matches are computed when they
+     * are first accessed
+     *
+     * @param commandSender Sender who executed the command
+     * @param currentChain  Supplier of the chain leading up to the exception
+     * @param command       Entered command (following the command chain)
+     * @param closeMatches  Supplier of the commands that are close to the entered command
+     * @since 1.7.0
+     */
+    public NoSuchCommandException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<CommandArgument<?, ?>>> currentChain,
+            final @NonNull String command,
+            final @NonNull Supplier<@NonNull List<@NonNull String>> closeMatches
+    ) {
+        super(commandSender, currentChain, false);
+        this.suppliedCommand = command;
+        this.closeMatchesSupplier = closeMatches;
+    }
+
 
     @Override
     public String getMessage() {
@@ -75,6 +127,30 @@ public final class NoSuchCommandException extends CommandParseException {
         return this.suppliedCommand;
     }
 
+    /**
+     * Get the commands that are close to the supplied command, which can be presented to the sender as
+     * suggestions. The matches are ordered by how close they are to the supplied command, and only include
+     * commands that the sender is permitted to use
+     *
+     * @return Close matches, or an empty list if there are none
+     * @since 1.7.0
+     */
+    public synchronized @NonNull List<@NonNull String> getCloseMatches() {
+        if (this.closeMatches == null) {
+            final Supplier<List<String>> closeMatchesSupplier = this.closeMatchesSupplier;
+            this.closeMatches = closeMatchesSupplier == null
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(closeMatchesSupplier.get());
+            this.closeMatchesSupplier = null;
+        }
+        return this.closeMatches;
+    }
+
+    private void writeObject(final @NonNull ObjectOutputStream outputStream) throws IOException {
+        this.getCloseMatches();
+        outputStream.defaultWriteObject();
+    }
+
     @Override
     public synchronized Throwable fillInStackTrace() {
         return this;
@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Recorder that receives the time it took to parse command arguments.
+ * <p>
+ * The recorder is set using {@link cloud.commandframework.CommandManager#setArgumentTimingRecorder(ArgumentTimingRecorder)}.
+ * By default, {@link #noOp()} is used, and no timings are measured.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface ArgumentTimingRecorder<C> {
+
+    /**
+     * Get a recorder that does not record anything. When this recorder is used,
+     * the argument parsing is not measured at all
+     *
+     * @param <C> Command sender type
+     * @return Recorder that does nothing
+     */
+    @SuppressWarnings("unchecked")
+    static <C> @NonNull ArgumentTimingRecorder<C> noOp() {
+        return (ArgumentTimingRecorder<C>) NoOpArgumentTimingRecorder.INSTANCE;
+    }
+
+    /**
+     * Get a recorder that stores the timings in the command context that is being parsed, so that they
+     * are available through {@link CommandContext#getArgumentTimings()}
+     *
+     * @param <C> Command sender type
+     * @return Recorder that stores timings in the command context
+     */
+    static <C> @NonNull ArgumentTimingRecorder<C> contextRecorder() {
+        return (context, argument, start, end, success) -> {
+            final CommandContext.ArgumentTiming argumentTiming = context.createTiming(argument);
+            argumentTiming.setStart(start);
+            argumentTiming.setEnd(end, success);
+        };
+    }
+
+    /**
+     * Check whether or not this recorder records timings. If this returns {@code false},
+     * the parsing will not be measured, and {@link #recordTiming(CommandContext, CommandArgument, long, long, boolean)}
+     * will not be called
+     *
+     * @return {@code true} if the recorder records timings, else {@code false}
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Record the time it took to parse an argument
+     *
+     * @param context  Command context that was being parsed
+     * @param argument Argument that was parsed
+     * @param start    Start time (in nanoseconds)
+     * @param end      End time (in nanoseconds)
+     * @param success  Whether or not the argument was parsed successfully
+     */
+    void recordTiming(
+            @NonNull CommandContext<C> context,
+            @NonNull CommandArgument<C, ?> argument,
+            long start,
+            long end,
+            boolean success
+    );
+
+    /**
+     * Discard the timings that have been recorded for an argument. This is invoked when the command
+     * that the argument belongs to is deleted. By default this does nothing
+     *
+     * @param argument Argument that is no longer used
+     */
+    default void removeTimings(final @NonNull CommandArgument<C, ?> argument) {
+    }
+
+}
@@ -28,8 +28,16 @@ import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.CommandExecutionRejectedException;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -41,6 +49,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Execution coordinator parses and/or executes commands on a separate thread from the calling thread
+ * <p>
+ * The amount of commands that are executing at the same time may be limited globally and per sender, see
+ * {@link Builder#withMaximumInFlight(int)} and {@link Builder#withMaximumInFlightPerSender(int)}. Commands
+ * that exceed these limits wait in a queue, and once the queue is full the {@link OverflowPolicy} decides
+ * what happens to new commands. Commands that are not executed because of this are completed with a
+ * {@link CommandExecutionRejectedException}
  *
  * @param <C> Command sender type
  */
@@ -49,16 +63,27 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
     private final CommandManager<C> commandManager;
     private final Executor executor;
     private final boolean synchronizeParsing;
+    private final Admission admission;
 
     private AsynchronousCommandExecutionCoordinator(
             final @Nullable Executor executor,
             final boolean synchronizeParsing,
+            final int maximumInFlight,
+            final int maximumInFlightPerSender,
+            final int queueLimit,
+            final @NonNull OverflowPolicy overflowPolicy,
             final @NonNull CommandTree<C> commandTree
     ) {
         super(commandTree);
         this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
         this.synchronizeParsing = synchronizeParsing;
         this.commandManager = commandTree.getCommandManager();
+        if (maximumInFlight == Integer.MAX_VALUE && maximumInFlightPerSender == Integer.MAX_VALUE) {
+            /* Nothing can ever be queued, so the admission bookkeeping is skipped */
+            this.admission = null;
+        } else {
+            this.admission = new Admission(maximumInFlight, maximumInFlightPerSender, queueLimit, overflowPolicy);
+        }
     }
 
     /**
@@ -80,7 +105,7 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
 
         final Consumer<Command<C>> commandConsumer = command -> {
             if (this.commandManager.postprocessContext(commandContext, command) == State.ACCEPTED) {
-                command.getCommandExecutionHandler().executeFuture(commandContext).whenComplete((result, throwable) -> {
+                this.executeHandler(commandContext, command, (result, throwable) -> {
                     if (throwable != null) {
                         if (throwable instanceof CommandExecutionException) {
                             resultFuture.completeExceptionally(throwable);
@@ -91,6 +116,8 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
                     // Only complete when the execution is actually finished. See #306 for more info.
                     resultFuture.complete(new CommandResult<>(commandContext));
                 });
+            } else {
+                resultFuture.complete(new CommandResult<>(commandContext));
             }
         };
 
@@ -100,10 +127,10 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
             if (pair.getSecond() != null) {
                 resultFuture.completeExceptionally(pair.getSecond());
             } else {
-                this.executor.execute(() -> commandConsumer.accept(pair.getFirst()));
+                this.submit(commandContext, resultFuture, () -> commandConsumer.accept(pair.getFirst()));
             }
         } else {
-            this.executor.execute(() -> {
+            this.submit(commandContext, resultFuture, () -> {
                 try {
                     final @NonNull Pair<@Nullable Command<C>, @Nullable Exception> pair =
                             this.getCommandTree().parse(commandContext, input);
@@ -121,6 +148,51 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
         return resultFuture;
     }
 
+    /**
+     * Get the amount of commands that are waiting for an execution slot. This is always {@code 0}
+     * if no execution limits have been configured
+     *
+     * @return Number of queued commands
+     * @since 1.7.0
+     */
+    public int getQueuedExecutions() {
+        return this.admission == null ? 0 : this.admission.queued();
+    }
+
+    private void submit(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CompletableFuture<CommandResult<C>> resultFuture,
+            final @NonNull Runnable task
+    ) {
+        if (this.admission == null) {
+            this.executor.execute(task);
+        } else {
+            this.admission.submit(new Execution(commandContext, resultFuture, task));
+        }
+    }
+
+
+    /**
+     * Policy that decides what happens to a command that exceeds the execution limits
+     * when the queue of waiting commands is full
+     *
+     * @since 1.7.0
+     */
+    public enum OverflowPolicy {
+        /**
+         * The new command is rejected
+         */
+        REJECT,
+        /**
+         * The command that has been waiting the longest is rejected, and the new command is queued
+         */
+        DROP_OLDEST,
+        /**
+         * The new command is executed on the calling thread, regardless of the execution limits
+         */
+        CALLER_RUNS
+    }
+
 
     /**
      * Builder for {@link AsynchronousCommandExecutionCoordinator} instances
@@ -130,7 +202,12 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
     public static final class Builder<C> {
 
         private Executor executor = null;
+        private boolean virtualThreads = false;
         private boolean synchronizeParsing = false;
+        private int maximumInFlight = Integer.MAX_VALUE;
+        private int maximumInFlightPerSender = Integer.MAX_VALUE;
+        private int queueLimit = Integer.MAX_VALUE;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
 
         private Builder() {
         }
@@ -168,14 +245,251 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
             return this;
         }
 
+        /**
+         * Run every task on its own virtual thread, so that blocking command handlers do not occupy
+         * the threads of a shared pool. If the runtime does not support virtual threads, the executor
+         * specified using {@link #withExecutor(Executor)} is used instead
+         *
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withVirtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * Limit the amount of commands that may execute at the same time. Commands that exceed
+         * the limit are queued until another command has finished. By default there is no limit
+         *
+         * @param maximumInFlight Maximum amount of executing commands
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withMaximumInFlight(final int maximumInFlight) {
+            if (maximumInFlight < 1) {
+                throw new IllegalArgumentException("The maximum amount of executing commands must be positive");
+            }
+            this.maximumInFlight = maximumInFlight;
+            return this;
+        }
+
+        /**
+         * Limit the amount of commands that a single sender may execute at the same time. Commands that exceed
+         * the limit are queued until another command of the sender has finished. By default there is no limit
+         *
+         * @param maximumInFlightPerSender Maximum amount of executing commands per sender
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withMaximumInFlightPerSender(final int maximumInFlightPerSender) {
+            if (maximumInFlightPerSender < 1) {
+                throw new IllegalArgumentException("The maximum amount of executing commands per sender must be positive");
+            }
+            this.maximumInFlightPerSender = maximumInFlightPerSender;
+            return this;
+        }
+
+        /**
+         * Limit the amount of commands that may wait for an execution slot. Once the queue is full, the
+         * {@link #withOverflowPolicy(OverflowPolicy) overflow policy} is applied. By default the queue is unbounded.
+         * <p>
+         * Commands are only queued when they exceed an execution limit, so this requires
+         * {@link #withMaximumInFlight(int)} or {@link #withMaximumInFlightPerSender(int)}
+         *
+         * @param queueLimit Maximum amount of queued commands
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withQueueLimit(final int queueLimit) {
+            if (queueLimit < 0) {
+                throw new IllegalArgumentException("The queue limit cannot be negative");
+            }
+            this.queueLimit = queueLimit;
+            return this;
+        }
+
+        /**
+         * Specify what happens to commands that exceed the execution limits when the queue is full.
+         * By default such commands are {@link OverflowPolicy#REJECT rejected}.
+         * <p>
+         * This requires {@link #withMaximumInFlight(int)} or {@link #withMaximumInFlightPerSender(int)}
+         *
+         * @param overflowPolicy Overflow policy
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withOverflowPolicy(final @NonNull OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
         /**
          * Builder a function that generates a command execution coordinator
          * using the options specified in this builder
          *
          * @return Function that builds the coordinator
+         * @throws IllegalStateException If a queue limit or overflow policy is specified without an execution limit
          */
         public @NonNull Function<@NonNull CommandTree<C>, @NonNull CommandExecutionCoordinator<C>> build() {
-            return tree -> new AsynchronousCommandExecutionCoordinator<>(this.executor, this.synchronizeParsing, tree);
+            if (this.maximumInFlight == Integer.MAX_VALUE && this.maximumInFlightPerSender == Integer.MAX_VALUE
+                    && (this.queueLimit != Integer.MAX_VALUE || this.overflowPolicy != OverflowPolicy.REJECT)) {
+                throw new IllegalStateException(
+                        "A queue limit or overflow policy requires a maximum amount of executing commands");
+            }
+            final Executor executor = this.resolveExecutor();
+            return tree -> new AsynchronousCommandExecutionCoordinator<>(
+                    executor,
+                    this.synchronizeParsing,
+                    this.maximumInFlight,
+                    this.maximumInFlightPerSender,
+                    this.queueLimit,
+                    this.overflowPolicy,
+                    tree
+            );
+        }
+
+        private @Nullable Executor resolveExecutor() {
+            if (this.virtualThreads) {
+                final Executor virtualThreadExecutor = VirtualThreads.executor();
+                if (virtualThreadExecutor != null) {
+                    return virtualThreadExecutor;
+                }
+            }
+            return this.executor;
+        }
+
+    }
+
+    private final class Execution {
+
+        private final CommandContext<C> commandContext;
+        private final CompletableFuture<CommandResult<C>> resultFuture;
+        private final Runnable task;
+
+        private Execution(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull CompletableFuture<CommandResult<C>> resultFuture,
+                final @NonNull Runnable task
+        ) {
+            this.commandContext = commandContext;
+            this.resultFuture = resultFuture;
+            this.task = task;
+        }
+
+        private void run() {
+            try {
+                this.task.run();
+            } catch (final Exception e) {
+                /* The execution slot is only released once the result has been completed */
+                this.resultFuture.completeExceptionally(e);
+            }
+        }
+
+        private void reject(final boolean dropped) {
+            this.resultFuture.completeExceptionally(new CommandExecutionRejectedException(this.commandContext, dropped));
+        }
+
+    }
+
+    private final class Admission {
+
+        private final int maximumInFlight;
+        private final int maximumInFlightPerSender;
+        private final int queueLimit;
+        private final OverflowPolicy overflowPolicy;
+        private final Deque<Execution> queue = new ArrayDeque<>();
+        private final Map<C, Integer> senderInFlight = new HashMap<>();
+        private int inFlight;
+
+        private Admission(
+                final int maximumInFlight,
+                final int maximumInFlightPerSender,
+                final int queueLimit,
+                final @NonNull OverflowPolicy overflowPolicy
+        ) {
+            this.maximumInFlight = maximumInFlight;
+            this.maximumInFlightPerSender = maximumInFlightPerSender;
+            this.queueLimit = queueLimit;
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        private synchronized int queued() {
+            return this.queue.size();
+        }
+
+        private void submit(final @NonNull Execution execution) {
+            final C sender = execution.commandContext.getSender();
+            Execution rejected = null;
+            boolean dropped = false;
+            boolean callerRuns = false;
+            synchronized (this) {
+                if (this.canAcquire(sender)) {
+                    this.acquire(sender);
+                } else if (this.queue.size() < this.queueLimit) {
+                    this.queue.add(execution);
+                    return;
+                } else if (this.overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+                    this.acquire(sender);
+                    callerRuns = true;
+                } else if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST && !this.queue.isEmpty()) {
+                    rejected = this.queue.poll();
+                    dropped = true;
+                    this.queue.add(execution);
+                } else {
+                    rejected = execution;
+                }
+            }
+            if (rejected != null) {
+                rejected.reject(dropped);
+            } else {
+                this.dispatch(execution, callerRuns);
+            }
+        }
+
+        private void release(final @NonNull C sender) {
+            final List<Execution> ready = new ArrayList<>();
+            synchronized (this) {
+                this.inFlight--;
+                this.senderInFlight.computeIfPresent(sender, (key, count) -> count == 1 ? null : count - 1);
+                final Iterator<Execution> iterator = this.queue.iterator();
+                while (iterator.hasNext() && this.inFlight < this.maximumInFlight) {
+                    final Execution execution = iterator.next();
+                    final C queuedSender = execution.commandContext.getSender();
+                    if (this.canAcquire(queuedSender)) {
+                        iterator.remove();
+                        this.acquire(queuedSender);
+                        ready.add(execution);
+                    }
+                }
+            }
+            for (final Execution execution : ready) {
+                this.dispatch(execution, false);
+            }
+        }
+
+        private boolean canAcquire(final @NonNull C sender) {
+            return this.inFlight < this.maximumInFlight
+                    && this.senderInFlight.getOrDefault(sender, 0) < this.maximumInFlightPerSender;
+        }
+
+        private void acquire(final @NonNull C sender) {
+            this.inFlight++;
+            this.senderInFlight.merge(sender, 1, Integer::sum);
+        }
+
+        private void dispatch(final @NonNull Execution execution, final boolean callerRuns) {
+            final C sender = execution.commandContext.getSender();
+            execution.resultFuture.whenComplete((result, throwable) -> this.release(sender));
+            if (callerRuns) {
+                execution.run();
+                return;
+            }
+            try {
+                AsynchronousCommandExecutionCoordinator.this.executor.execute(execution::run);
+            } catch (final Exception e) {
+                execution.resultFuture.completeExceptionally(e);
+            }
         }
 
     }
@@ -32,6 +32,8 @@ import cloud.commandframework.types.tuples.Pair;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -89,6 +91,30 @@ public abstract class CommandExecutionCoordinator<C> {
         return this.commandTree;
     }
 
+    /**
+     * Execute the handler of a command. The completion is invoked once the handler has finished executing.
+     * If the command manager has an {@link ExecutionWatchdog}, the completion is instead invoked with a
+     * {@link cloud.commandframework.exceptions.CommandExecutionTimeoutException} as soon as the handler exceeds
+     * its timeout, even if a synchronous handler is still running on the calling thread
+     *
+     * @param commandContext Command context
+     * @param command        Command to execute
+     * @param completion     Completion that accepts the result of the handler
+     * @return Future that completes once the completion has been invoked
+     * @since 1.7.0
+     */
+    protected final @NonNull CompletableFuture<@Nullable Void> executeHandler(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Command<C> command,
+            final @NonNull BiConsumer<@Nullable Void, @Nullable Throwable> completion
+    ) {
+        final ExecutionWatchdog executionWatchdog = this.commandTree.getCommandManager().getExecutionWatchdog();
+        if (executionWatchdog == null) {
+            return command.getCommandExecutionHandler().executeFuture(commandContext).whenComplete(completion);
+        }
+        return executionWatchdog.execute(commandContext, command, completion);
+    }
+
 
     /**
      * A simple command execution coordinator that executes all commands immediately, on the calling thread
@@ -117,14 +143,19 @@ public abstract class CommandExecutionCoordinator<C> {
                     final Command<C> command = Objects.requireNonNull(pair.getFirst());
                     if (this.getCommandTree().getCommandManager().postprocessContext(commandContext, command) == State.ACCEPTED) {
                         try {
-                            command.getCommandExecutionHandler().executeFuture(commandContext).get();
+                            this.executeHandler(commandContext, command, (result, throwable) -> {
+                                Throwable cause = throwable;
+                                if (cause instanceof CompletionException && cause.getCause() != null) {
+                                    cause = cause.getCause();
+                                }
+                                if (cause instanceof CommandExecutionException) {
+                                    completableFuture.completeExceptionally(cause);
+                                } else if (cause != null) {
+                                    completableFuture.completeExceptionally(new CommandExecutionException(cause, commandContext));
+                                }
+                            }).get();
                         } catch (final java.util.concurrent.ExecutionException exception) {
-                            Throwable cause = exception.getCause();
-                            if (cause instanceof CommandExecutionException) {
-                                completableFuture.completeExceptionally(cause);
-                            } else {
-                                completableFuture.completeExceptionally(new CommandExecutionException(cause, commandContext));
-                            }
+                            /* The failure has been reported by the completion */
                         } catch (final CommandExecutionException exception) {
                             completableFuture.completeExceptionally(exception);
                         } catch (final Exception exception) {
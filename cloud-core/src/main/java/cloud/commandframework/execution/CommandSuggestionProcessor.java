@@ -24,6 +24,7 @@
 package cloud.commandframework.execution;
 
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -36,4 +37,41 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public interface CommandSuggestionProcessor<C> extends
         BiFunction<@NonNull CommandPreprocessingContext<C>, @NonNull List<String>, @NonNull List<String>> {
 
+    /**
+     * Create a sink that processes the suggestions that are pushed into it, and forwards the processed
+     * suggestions to another sink. The input of the preprocessing context is read when suggestions are pushed.
+     * <p>
+     * By default, the suggestions are collected until the sink is completed, and are then processed using
+     * {@link #apply(Object, Object)}. Processors that are able to process suggestions one at a time should
+     * forward them as they are pushed, so that producers may stop early
+     *
+     * @param context    Preprocessing context
+     * @param downstream Sink to forward the processed suggestions to
+     * @return Processing sink
+     * @since 1.7.0
+     */
+    default @NonNull SuggestionSink sink(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull SuggestionSink downstream
+    ) {
+        final List<String> suggestions = new ArrayList<>();
+        return new SuggestionSink() {
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                suggestions.add(suggestion);
+                return true;
+            }
+
+            @Override
+            public void complete() {
+                for (final String suggestion : CommandSuggestionProcessor.this.apply(context, suggestions)) {
+                    if (!downstream.accept(suggestion)) {
+                        break;
+                    }
+                }
+                downstream.complete();
+            }
+        };
+    }
+
 }
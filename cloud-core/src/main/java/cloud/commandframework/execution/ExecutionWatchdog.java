@@ -0,0 +1,379 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandExecutionTimeoutException;
+import cloud.commandframework.meta.CommandMeta;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Watchdog that times out command handlers that take too long to execute.
+ * <p>
+ * The timeout of a command is stored in its meta using {@link #META_TIMEOUT}, and otherwise defaults to
+ * {@link Builder#withDefaultTimeout(Duration) the default timeout} of the watchdog. When a handler exceeds its
+ * timeout, the result of the command is completed with a {@link CommandExecutionTimeoutException}, even if a
+ * synchronous handler is still running. The future returned by
+ * {@link CommandExecutionHandler#executeFuture(CommandContext)} is cancelled and, if
+ * {@link Builder#withInterruption(boolean) interruption} has been enabled, the thread that is executing a synchronous
+ * handler is interrupted. Synchronous handlers that do not return, or that ignore interrupts, still hold on to
+ * their thread.
+ * <p>
+ * All timeouts are tracked by a single hashed timer wheel, which is advanced by one daemon thread. Timeouts are
+ * therefore only as precise as the {@link Builder#withTickDuration(Duration) tick duration}.
+ * <p>
+ * The watchdog is used by the execution coordinators once it has been set using
+ * {@link CommandManager#setExecutionWatchdog(ExecutionWatchdog)}.
+ *
+ * @since 1.7.0
+ */
+public final class ExecutionWatchdog {
+
+    /**
+     * Meta data that stores the execution timeout of a command. A zero duration disables the timeout of the command
+     */
+    public static final CommandMeta.Key<Duration> META_TIMEOUT = CommandMeta.Key.of(Duration.class, "cloud:execution_timeout");
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final Duration defaultTimeout;
+    private final long tickNanos;
+    private final boolean interruptHandlers;
+    private final Watch[] wheel = new Watch[WHEEL_SIZE];
+    private final Queue<Watch> scheduled = new ConcurrentLinkedQueue<>();
+    private final LongAdder timedOutExecutions = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private volatile @Nullable Thread worker;
+    private volatile boolean shutdown;
+    private long tick;
+
+    private ExecutionWatchdog(
+            final @Nullable Duration defaultTimeout,
+            final @NonNull Duration tickDuration,
+            final boolean interruptHandlers
+    ) {
+        this.defaultTimeout = defaultTimeout;
+        this.tickNanos = tickDuration.toNanos();
+        this.interruptHandlers = interruptHandlers;
+    }
+
+    /**
+     * Create a new {@link Builder} instance
+     *
+     * @return Builder
+     */
+    public static @NonNull Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the timeout of commands that do not specify a timeout in their meta
+     *
+     * @return Default timeout, or {@code null} if only commands with a timeout in their meta are timed out
+     */
+    public @Nullable Duration getDefaultTimeout() {
+        return this.defaultTimeout;
+    }
+
+    /**
+     * Get the amount of command executions that have been timed out by this watchdog
+     *
+     * @return Number of timed out executions
+     */
+    public long getTimedOutExecutions() {
+        return this.timedOutExecutions.sum();
+    }
+
+    /**
+     * Stop the thread of the watchdog. Executions that are still being watched will not time out,
+     * and executions that are started after the watchdog has been shut down are not watched
+     */
+    public void shutdown() {
+        this.shutdown = true;
+        final Thread worker = this.worker;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Execute the handler of a command, and time it out if it exceeds the timeout of the command
+     *
+     * @param commandContext Command context
+     * @param command        Command to execute
+     * @param completion     Completion that is invoked when the handler has finished, or when it has timed out
+     * @param <C>            Command sender type
+     * @return Future that completes once the completion has been invoked
+     */
+    <C> @NonNull CompletableFuture<@Nullable Void> execute(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Command<C> command,
+            final @NonNull BiConsumer<@Nullable Void, @Nullable Throwable> completion
+    ) {
+        final Duration timeout = command.getCommandMeta().get(META_TIMEOUT).orElse(this.defaultTimeout);
+        if (timeout == null || timeout.isZero() || timeout.isNegative() || this.shutdown) {
+            return command.getCommandExecutionHandler().executeFuture(commandContext).whenComplete(completion);
+        }
+        final Watch watch = new Watch(commandContext, timeout, System.nanoTime() + timeout.toNanos());
+        /*
+         * The completion is attached before the handler is invoked, so that a synchronous handler that exceeds
+         * its timeout is timed out while it is still running on this thread
+         */
+        final CompletableFuture<@Nullable Void> completed = watch.future.whenComplete(completion);
+        this.schedule(watch);
+        final CompletableFuture<@Nullable Void> handlerFuture;
+        try {
+            handlerFuture = command.getCommandExecutionHandler().executeFuture(commandContext);
+        } catch (final RuntimeException | Error e) {
+            /* The failure is reported by the coordinator, so the execution can no longer time out */
+            watch.finished.set(true);
+            throw e;
+        } finally {
+            watch.release();
+        }
+        watch.attach(handlerFuture);
+        return completed;
+    }
+
+    private void schedule(final @NonNull Watch watch) {
+        this.scheduled.add(watch);
+        if (this.worker == null) {
+            synchronized (this) {
+                if (this.worker == null) {
+                    final Thread thread = new Thread(this::run, "cloud-execution-watchdog");
+                    thread.setDaemon(true);
+                    thread.start();
+                    this.worker = thread;
+                }
+            }
+        }
+    }
+
+    private void run() {
+        while (!this.shutdown) {
+            final long tickEnd = this.startNanos + (this.tick + 1) * this.tickNanos;
+            long remaining;
+            while ((remaining = tickEnd - System.nanoTime()) > 0L && !this.shutdown) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            this.transferScheduled();
+            this.expireBucket((int) (this.tick & (WHEEL_SIZE - 1)));
+            this.tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        Watch watch;
+        while ((watch = this.scheduled.poll()) != null) {
+            if (watch.future.isDone()) {
+                continue;
+            }
+            final long calculatedTick = (watch.deadlineNanos - this.startNanos) / this.tickNanos;
+            /* Watches that should already have expired are expired in the current tick */
+            final long targetTick = Math.max(calculatedTick, this.tick);
+            watch.rounds = (targetTick - this.tick) / WHEEL_SIZE;
+            final int bucket = (int) (targetTick & (WHEEL_SIZE - 1));
+            watch.next = this.wheel[bucket];
+            this.wheel[bucket] = watch;
+        }
+    }
+
+    private void expireBucket(final int bucket) {
+        Watch previous = null;
+        Watch watch = this.wheel[bucket];
+        while (watch != null) {
+            final Watch next = watch.next;
+            if (watch.future.isDone() || watch.rounds-- <= 0) {
+                /* Unlink the watch, it has either finished or expired */
+                if (previous == null) {
+                    this.wheel[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                watch.next = null;
+                if (!watch.future.isDone()) {
+                    watch.expire();
+                }
+            } else {
+                previous = watch;
+            }
+            watch = next;
+        }
+    }
+
+
+    /**
+     * Builder for {@link ExecutionWatchdog} instances
+     */
+    public static final class Builder {
+
+        private Duration defaultTimeout = null;
+        private Duration tickDuration = Duration.ofMillis(50L);
+        private boolean interruptHandlers = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify the timeout of commands that do not specify a timeout using {@link #META_TIMEOUT}.
+         * By default only commands that specify a timeout are timed out
+         *
+         * @param defaultTimeout Default timeout
+         * @return Builder instance
+         */
+        public @NonNull Builder withDefaultTimeout(final @NonNull Duration defaultTimeout) {
+            this.defaultTimeout = defaultTimeout;
+            return this;
+        }
+
+        /**
+         * Specify how often the timer wheel is advanced. By default this is 50 milliseconds
+         *
+         * @param tickDuration Tick duration
+         * @return Builder instance
+         */
+        public @NonNull Builder withTickDuration(final @NonNull Duration tickDuration) {
+            if (tickDuration.isZero() || tickDuration.isNegative()) {
+                throw new IllegalArgumentException("The tick duration must be positive");
+            }
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        /**
+         * Specify whether threads executing synchronous handlers are interrupted when the handler times out.
+         * This should only be enabled if commands are executed on threads that are owned by the execution
+         * coordinator, such as the executor of the {@link AsynchronousCommandExecutionCoordinator}, and never
+         * when commands are executed on threads that must not be interrupted, such as the main thread of a
+         * server. By default threads are not interrupted
+         *
+         * @param interruptHandlers Whether handlers are interrupted
+         * @return Builder instance
+         */
+        public @NonNull Builder withInterruption(final boolean interruptHandlers) {
+            this.interruptHandlers = interruptHandlers;
+            return this;
+        }
+
+        /**
+         * Create a new watchdog using the options specified in this builder
+         *
+         * @return Watchdog
+         */
+        public @NonNull ExecutionWatchdog build() {
+            return new ExecutionWatchdog(this.defaultTimeout, this.tickDuration, this.interruptHandlers);
+        }
+
+    }
+
+    private final class Watch {
+
+        private final CommandContext<?> commandContext;
+        private final Duration timeout;
+        private final long deadlineNanos;
+        private final CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile @Nullable CompletableFuture<@Nullable Void> handlerFuture;
+        private volatile boolean timedOut;
+        private @Nullable Thread thread = Thread.currentThread();
+        private boolean interrupted;
+        /* Only accessed by the watchdog thread */
+        private long rounds;
+        private @Nullable Watch next;
+
+        private Watch(
+                final @NonNull CommandContext<?> commandContext,
+                final @NonNull Duration timeout,
+                final long deadlineNanos
+        ) {
+            this.commandContext = commandContext;
+            this.timeout = timeout;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Called by the handler thread once the handler has returned
+         */
+        private synchronized void release() {
+            this.thread = null;
+            if (this.interrupted) {
+                /* Clear the interrupt, so that it does not leak into the next task of the thread */
+                Thread.interrupted();
+            }
+        }
+
+        private void attach(final @NonNull CompletableFuture<@Nullable Void> handlerFuture) {
+            this.handlerFuture = handlerFuture;
+            handlerFuture.whenComplete((result, throwable) -> {
+                if (!this.finished.compareAndSet(false, true)) {
+                    /* The handler has already timed out */
+                    return;
+                }
+                if (throwable != null) {
+                    this.future.completeExceptionally(throwable);
+                } else {
+                    this.future.complete(null);
+                }
+            });
+            if (this.timedOut) {
+                handlerFuture.cancel(true);
+            }
+        }
+
+        private void expire() {
+            if (!this.finished.compareAndSet(false, true)) {
+                return;
+            }
+            this.timedOut = true;
+            ExecutionWatchdog.this.timedOutExecutions.increment();
+            if (ExecutionWatchdog.this.interruptHandlers) {
+                synchronized (this) {
+                    if (this.thread != null) {
+                        this.thread.interrupt();
+                        this.interrupted = true;
+                    }
+                }
+            }
+            final CompletableFuture<@Nullable Void> handlerFuture = this.handlerFuture;
+            if (handlerFuture != null) {
+                handlerFuture.cancel(true);
+            }
+            /* The result is completed last, so that the handler has been stopped once the result is available */
+            this.future.completeExceptionally(new CommandExecutionTimeoutException(this.timeout, this.commandContext));
+        }
+
+    }
+
+}
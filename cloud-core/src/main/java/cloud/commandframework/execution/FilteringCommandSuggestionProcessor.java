@@ -24,12 +24,13 @@
 package cloud.commandframework.execution;
 
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
- * Command suggestions processor that checks the input queue head and filters based on that
+ * Command suggestions processor that checks the input queue head and filters based on that.
+ * At most {@link cloud.commandframework.context.CommandContext#getSuggestionLimit()} suggestions are kept
  *
  * @param <C> Command sender type
  */
@@ -40,19 +41,34 @@ public final class FilteringCommandSuggestionProcessor<C> implements CommandSugg
             final @NonNull CommandPreprocessingContext<C> context,
             final @NonNull List<@NonNull String> strings
     ) {
-        final String input;
-        if (context.getInputQueue().isEmpty()) {
-            input = "";
-        } else {
-            input = context.getInputQueue().peek();
-        }
-        final List<String> suggestions = new LinkedList<>();
+        final List<String> suggestions = new ArrayList<>(Math.min(strings.size(), context.getCommandContext().getSuggestionLimit()));
+        final SuggestionSink sink = this.sink(context, SuggestionSink.collecting(suggestions));
         for (final String suggestion : strings) {
-            if (suggestion.startsWith(input)) {
-                suggestions.add(suggestion);
+            if (!sink.accept(suggestion)) {
+                break;
             }
         }
         return suggestions;
     }
 
+    @Override
+    public @NonNull SuggestionSink sink(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull SuggestionSink downstream
+    ) {
+        final SuggestionSink limitedSink = SuggestionSink.limit(context.getCommandContext().getSuggestionLimit(), downstream);
+        return new SuggestionSink() {
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                final String input = context.getInput().isEmpty() ? "" : context.getInput().peek();
+                return !suggestion.startsWith(input) || limitedSink.accept(suggestion);
+            }
+
+            @Override
+            public void complete() {
+                limitedSink.complete();
+            }
+        };
+    }
+
 }
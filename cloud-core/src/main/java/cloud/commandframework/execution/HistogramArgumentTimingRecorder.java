@@ -0,0 +1,235 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Recorder that aggregates argument parsing times into a histogram per argument. The histograms
+ * are shared between all requests, and are updated without locking. Histograms are only
+ * created under a lock, the first time that an argument is timed.
+ * <p>
+ * The histograms use buckets that are powers of two nanoseconds wide, which means that the
+ * percentiles are approximations.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class HistogramArgumentTimingRecorder<C> implements ArgumentTimingRecorder<C> {
+
+    private final Object writeLock = new Object();
+    /* Copy-on-write identity map, so that recording a timing does not lock or allocate */
+    private volatile Map<CommandArgument<C, ?>, Histogram> histograms = new IdentityHashMap<>();
+
+    @Override
+    public void recordTiming(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandArgument<C, ?> argument,
+            final long start,
+            final long end,
+            final boolean success
+    ) {
+        Histogram histogram = this.histograms.get(argument);
+        if (histogram == null) {
+            histogram = this.createHistogram(argument);
+        }
+        histogram.record(Math.max(0L, end - start), success);
+    }
+
+    private @NonNull Histogram createHistogram(final @NonNull CommandArgument<C, ?> argument) {
+        synchronized (this.writeLock) {
+            final Histogram existing = this.histograms.get(argument);
+            if (existing != null) {
+                return existing;
+            }
+            final Map<CommandArgument<C, ?>, Histogram> histograms = new IdentityHashMap<>(this.histograms);
+            final Histogram histogram = new Histogram();
+            histograms.put(argument, histogram);
+            this.histograms = histograms;
+            return histogram;
+        }
+    }
+
+    /**
+     * Get the histogram of an argument
+     *
+     * @param argument Argument
+     * @return The histogram, or {@link Optional#empty()} if no timings have been recorded for the argument
+     */
+    public @NonNull Optional<Histogram> getHistogram(final @NonNull CommandArgument<C, ?> argument) {
+        return Optional.ofNullable(this.histograms.get(argument));
+    }
+
+    /**
+     * Invoke the consumer for every argument that has a histogram
+     *
+     * @param consumer Consumer that accepts the arguments and their histograms
+     */
+    public void forEach(final @NonNull BiConsumer<@NonNull CommandArgument<C, ?>, @NonNull Histogram> consumer) {
+        this.histograms.forEach(consumer);
+    }
+
+    /**
+     * Remove the histogram of an argument
+     *
+     * @param argument Argument
+     */
+    @Override
+    public void removeTimings(final @NonNull CommandArgument<C, ?> argument) {
+        synchronized (this.writeLock) {
+            if (!this.histograms.containsKey(argument)) {
+                return;
+            }
+            final Map<CommandArgument<C, ?>, Histogram> histograms = new IdentityHashMap<>(this.histograms);
+            histograms.remove(argument);
+            this.histograms = histograms;
+        }
+    }
+
+    /**
+     * Remove all recorded timings
+     */
+    public void reset() {
+        synchronized (this.writeLock) {
+            this.histograms = new IdentityHashMap<>();
+        }
+    }
+
+
+    /**
+     * Histogram of the parsing times of an argument. All times are measured in nanoseconds
+     */
+    public static final class Histogram {
+
+        private static final int BUCKETS = Long.SIZE;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        private Histogram() {
+        }
+
+        private void record(final long elapsedTime, final boolean success) {
+            /* Bucket i contains the times that are at least 2^(i-1) and less than 2^i */
+            this.buckets.incrementAndGet(Math.min(BUCKETS - Long.numberOfLeadingZeros(elapsedTime), BUCKETS - 1));
+            this.count.increment();
+            if (!success) {
+                this.failures.increment();
+            }
+            this.totalTime.add(elapsedTime);
+            long max;
+            do {
+                max = this.maxTime.get();
+            } while (elapsedTime > max && !this.maxTime.compareAndSet(max, elapsedTime));
+        }
+
+        /**
+         * Get the number of recorded timings
+         *
+         * @return Number of timings
+         */
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        /**
+         * Get the number of recorded timings where the argument failed to parse
+         *
+         * @return Number of failures
+         */
+        public long getFailures() {
+            return this.failures.sum();
+        }
+
+        /**
+         * Get the sum of all recorded times
+         *
+         * @return Total time
+         */
+        public long getTotalTime() {
+            return this.totalTime.sum();
+        }
+
+        /**
+         * Get the mean of all recorded times
+         *
+         * @return Mean time, or {@code 0} if no timings have been recorded
+         */
+        public double getMeanTime() {
+            final long count = this.getCount();
+            return count == 0 ? 0 : this.getTotalTime() / (double) count;
+        }
+
+        /**
+         * Get the largest recorded time
+         *
+         * @return Largest time
+         */
+        public long getMaxTime() {
+            return this.maxTime.get();
+        }
+
+        /**
+         * Get an approximation of a percentile of the recorded times. The returned value is the
+         * upper bound of the bucket that contains the percentile
+         *
+         * @param percentile Percentile, between {@code 0} and {@code 1}
+         * @return Approximated percentile, or {@code 0} if no timings have been recorded
+         */
+        public long getPercentile(final double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 1");
+            }
+            final long[] snapshot = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = this.buckets.get(i);
+                total += snapshot[i];
+            }
+            final long target = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= target && seen > 0) {
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.services.State;
+import cloud.commandframework.types.tuples.Pair;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Execution coordinator that executes the commands of each sender in the order they were submitted,
+ * while the commands of different senders are executed in parallel.
+ * <p>
+ * Every sender has a mailbox of pending commands, which only exists while the sender has commands that
+ * have not finished executing. The commands of a mailbox are executed one at a time on the shared executor,
+ * and the next command is only started once the previous command, including any future returned from
+ * {@link CommandExecutionHandler#executeFuture(CommandContext)}, has completed. Mailboxes are keyed by a
+ * configurable sender identity, and no lock is shared between different senders.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class OrderedCommandExecutionCoordinator<C> extends CommandExecutionCoordinator<C> {
+
+    private final CommandManager<C> commandManager;
+    private final Executor executor;
+    private final Function<@NonNull C, @NonNull Object> senderIdentity;
+    private final boolean synchronizeParsing;
+    private final Map<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private OrderedCommandExecutionCoordinator(
+            final @Nullable Executor executor,
+            final @NonNull Function<@NonNull C, @NonNull Object> senderIdentity,
+            final boolean synchronizeParsing,
+            final @NonNull CommandTree<C> commandTree
+    ) {
+        super(commandTree);
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        this.senderIdentity = senderIdentity;
+        this.synchronizeParsing = synchronizeParsing;
+        this.commandManager = commandTree.getCommandManager();
+    }
+
+    /**
+     * Create a new {@link Builder} instance
+     *
+     * @param <C> Command sender type
+     * @return Builder
+     */
+    public static <C> @NonNull Builder<C> newBuilder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<CommandResult<C>> coordinateExecution(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> input
+    ) {
+        final CompletableFuture<CommandResult<C>> resultFuture = new CompletableFuture<>();
+        final Execution execution;
+        if (this.synchronizeParsing) {
+            final @NonNull Pair<@Nullable Command<C>, @Nullable Exception> pair =
+                    this.getCommandTree().parse(commandContext, input);
+            if (pair.getSecond() != null) {
+                resultFuture.completeExceptionally(pair.getSecond());
+                return resultFuture;
+            }
+            execution = new Execution(commandContext, null, pair.getFirst(), resultFuture);
+        } else {
+            execution = new Execution(commandContext, input, null, resultFuture);
+        }
+        this.enqueue(this.senderIdentity.apply(commandContext.getSender()), execution);
+        return resultFuture;
+    }
+
+    /**
+     * Get the amount of senders that have commands which have not finished executing
+     *
+     * @return Number of active mailboxes
+     */
+    public int getActiveSenders() {
+        return this.mailboxes.size();
+    }
+
+    private void enqueue(final @NonNull Object identity, final @NonNull Execution execution) {
+        final boolean[] start = new boolean[1];
+        this.mailboxes.compute(identity, (key, mailbox) -> {
+            if (mailbox == null) {
+                /* The mailbox is idle, so the execution starts right away */
+                start[0] = true;
+                return new Mailbox();
+            }
+            mailbox.pending.add(execution);
+            return mailbox;
+        });
+        if (start[0]) {
+            this.start(identity, execution);
+        }
+    }
+
+    private void start(final @NonNull Object identity, final @NonNull Execution execution) {
+        try {
+            this.executor.execute(() -> this.run(execution).whenComplete((result, throwable) -> this.next(identity)));
+        } catch (final Exception e) {
+            execution.resultFuture.completeExceptionally(e);
+            this.next(identity);
+        }
+    }
+
+    private void next(final @NonNull Object identity) {
+        final Mailbox mailbox = this.mailboxes.computeIfPresent(identity, (key, current) -> {
+            current.next = current.pending.poll();
+            /* The mailbox is removed once it has been drained */
+            return current.next == null ? null : current;
+        });
+        if (mailbox != null) {
+            this.start(identity, mailbox.next);
+        }
+    }
+
+    private @NonNull CompletableFuture<CommandResult<C>> run(final @NonNull Execution execution) {
+        final CommandContext<C> commandContext = execution.commandContext;
+        final CompletableFuture<CommandResult<C>> resultFuture = execution.resultFuture;
+        try {
+            Command<C> command = execution.command;
+            if (command == null) {
+                final @NonNull Pair<@Nullable Command<C>, @Nullable Exception> pair =
+                        this.getCommandTree().parse(commandContext, execution.input);
+                if (pair.getSecond() != null) {
+                    resultFuture.completeExceptionally(pair.getSecond());
+                    return resultFuture;
+                }
+                command = pair.getFirst();
+            }
+            if (this.commandManager.postprocessContext(commandContext, command) != State.ACCEPTED) {
+                resultFuture.complete(new CommandResult<>(commandContext));
+                return resultFuture;
+            }
+            this.executeHandler(commandContext, command, (result, throwable) -> {
+                if (throwable != null) {
+                    if (throwable instanceof CommandExecutionException) {
+                        resultFuture.completeExceptionally(throwable);
+                    } else {
+                        resultFuture.completeExceptionally(new CommandExecutionException(throwable, commandContext));
+                    }
+                }
+                resultFuture.complete(new CommandResult<>(commandContext));
+            });
+        } catch (final Exception e) {
+            resultFuture.completeExceptionally(e);
+        }
+        return resultFuture;
+    }
+
+
+    /**
+     * Builder for {@link OrderedCommandExecutionCoordinator} instances
+     *
+     * @param <C> Command sender type
+     */
+    public static final class Builder<C> {
+
+        private Executor executor = null;
+        private boolean virtualThreads = false;
+        private Function<@NonNull C, @NonNull Object> senderIdentity = sender -> sender;
+        private boolean synchronizeParsing = false;
+
+        private Builder() {
+        }
+
+        /**
+         * This forces the command parsing to run on the calling thread,
+         * and only the actual command execution will run using the executor
+         *
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withSynchronousParsing() {
+            this.synchronizeParsing = true;
+            return this;
+        }
+
+        /**
+         * Both command parsing and execution will run using the executor, in the order of the sender
+         *
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withAsynchronousParsing() {
+            this.synchronizeParsing = false;
+            return this;
+        }
+
+        /**
+         * Specify an executor that will be used to coordinate tasks.
+         * By default the executor uses {@link java.util.concurrent.ForkJoinPool#commonPool()}
+         *
+         * @param executor Executor to use
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withExecutor(final @NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Specify the function that identifies the sender of a command. Commands with equal identities
+         * are executed in order. By default the sender itself is used, which requires the sender type
+         * to implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+         *
+         * @param senderIdentity Function that maps senders to their identity
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withSenderIdentity(final @NonNull Function<@NonNull C, @NonNull Object> senderIdentity) {
+            this.senderIdentity = senderIdentity;
+            return this;
+        }
+
+        /**
+         * Run every task on its own virtual thread, so that blocking command handlers do not occupy
+         * the threads of a shared pool. If the runtime does not support virtual threads, the executor
+         * specified using {@link #withExecutor(Executor)} is used instead
+         *
+         * @return Builder instance
+         * @since 1.7.0
+         */
+        public @NonNull Builder<C> withVirtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * Builder a function that generates a command execution coordinator
+         * using the options specified in this builder
+         *
+         * @return Function that builds the coordinator
+         */
+        public @NonNull Function<@NonNull CommandTree<C>, @NonNull CommandExecutionCoordinator<C>> build() {
+            final Executor executor = this.resolveExecutor();
+            return tree -> new OrderedCommandExecutionCoordinator<>(
+                    executor,
+                    this.senderIdentity,
+                    this.synchronizeParsing,
+                    tree
+            );
+        }
+
+        private @Nullable Executor resolveExecutor() {
+            if (this.virtualThreads) {
+                final Executor virtualThreadExecutor = VirtualThreads.executor();
+                if (virtualThreadExecutor != null) {
+                    return virtualThreadExecutor;
+                }
+            }
+            return this.executor;
+        }
+
+    }
+
+    private final class Execution {
+
+        private final CommandContext<C> commandContext;
+        private final Queue<String> input;
+        private final Command<C> command;
+        private final CompletableFuture<CommandResult<C>> resultFuture;
+
+        private Execution(
+                final @NonNull CommandContext<C> commandContext,
+                final @Nullable Queue<@NonNull String> input,
+                final @Nullable Command<C> command,
+                final @NonNull CompletableFuture<CommandResult<C>> resultFuture
+        ) {
+            this.commandContext = commandContext;
+            this.input = input;
+            this.command = command;
+            this.resultFuture = resultFuture;
+        }
+
+    }
+
+    private final class Mailbox {
+
+        private final Queue<Execution> pending = new ArrayDeque<>();
+        private Execution next;
+
+    }
+
+}
@@ -0,0 +1,332 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.services.State;
+import cloud.commandframework.types.tuples.Pair;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Execution coordinator that executes commands on a limited amount of worker tasks, in the order of their priority.
+ * <p>
+ * The priority of a command is the highest of the priority stored in its meta using {@link #META_PRIORITY}, and the
+ * priority of the sender, as determined by {@link Builder#withSenderPriority(Function)}. Commands with a higher priority
+ * are executed first. To prevent low priority commands from waiting forever, commands age while they are queued:
+ * a command that has waited for one {@link Builder#withAgingInterval(Duration) aging interval} is executed before
+ * commands with a priority that is one higher and that were submitted after it.
+ * <p>
+ * The priority of a command is only known once it has been parsed, so parsing always happens on the calling thread.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class PriorityCommandExecutionCoordinator<C> extends CommandExecutionCoordinator<C> {
+
+    /**
+     * Meta data that stores the execution priority of a command
+     */
+    public static final CommandMeta.Key<Integer> META_PRIORITY = CommandMeta.Key.of(Integer.class, "cloud:priority");
+
+    /**
+     * The priority of commands that do not specify a priority
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private final CommandManager<C> commandManager;
+    private final Executor executor;
+    private final Function<@NonNull C, @NonNull Integer> senderPriority;
+    private final int parallelism;
+    private final long agingNanos;
+    private final long origin = System.nanoTime();
+    private final Queue<Execution> queue = new PriorityQueue<>(
+            Comparator.<Execution>comparingLong(execution -> execution.deadline).thenComparingLong(execution -> execution.sequence)
+    );
+    private long sequence;
+    private int workers;
+
+    private PriorityCommandExecutionCoordinator(
+            final @Nullable Executor executor,
+            final @NonNull Function<@NonNull C, @NonNull Integer> senderPriority,
+            final int parallelism,
+            final @NonNull Duration agingInterval,
+            final @NonNull CommandTree<C> commandTree
+    ) {
+        super(commandTree);
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        this.senderPriority = senderPriority;
+        this.parallelism = parallelism;
+        this.agingNanos = agingInterval.toNanos();
+        this.commandManager = commandTree.getCommandManager();
+    }
+
+    /**
+     * Create a new {@link Builder} instance
+     *
+     * @param <C> Command sender type
+     * @return Builder
+     */
+    public static <C> @NonNull Builder<C> newBuilder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<CommandResult<C>> coordinateExecution(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> input
+    ) {
+        final CompletableFuture<CommandResult<C>> resultFuture = new CompletableFuture<>();
+        final @NonNull Pair<@Nullable Command<C>, @Nullable Exception> pair =
+                this.getCommandTree().parse(commandContext, input);
+        if (pair.getSecond() != null) {
+            resultFuture.completeExceptionally(pair.getSecond());
+            return resultFuture;
+        }
+        final Command<C> command = pair.getFirst();
+        final int priority = Math.max(
+                command.getCommandMeta().getOrDefault(META_PRIORITY, DEFAULT_PRIORITY),
+                this.senderPriority.apply(commandContext.getSender())
+        );
+        /* Every level of priority is worth one aging interval of waiting time */
+        final long deadline = (System.nanoTime() - this.origin) - priority * this.agingNanos;
+
+        final boolean startWorker;
+        synchronized (this.queue) {
+            this.queue.add(new Execution(commandContext, command, resultFuture, deadline, this.sequence++));
+            startWorker = this.workers < this.parallelism;
+            if (startWorker) {
+                this.workers++;
+            }
+        }
+        if (startWorker) {
+            try {
+                this.executor.execute(this::drain);
+            } catch (final Exception e) {
+                synchronized (this.queue) {
+                    this.workers--;
+                }
+                resultFuture.completeExceptionally(e);
+            }
+        }
+        return resultFuture;
+    }
+
+    /**
+     * Get the amount of commands that are waiting to be executed
+     *
+     * @return Number of queued commands
+     */
+    public int getQueuedExecutions() {
+        synchronized (this.queue) {
+            return this.queue.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Execution execution;
+            synchronized (this.queue) {
+                execution = this.queue.poll();
+                if (execution == null) {
+                    this.workers--;
+                    return;
+                }
+            }
+            final CompletableFuture<?> completion = this.execute(execution);
+            if (!completion.isDone()) {
+                /* The worker slot is held until the handler completes, and is then used for the next command */
+                completion.whenComplete((result, throwable) -> this.resume());
+                return;
+            }
+        }
+    }
+
+    private void resume() {
+        try {
+            this.executor.execute(this::drain);
+        } catch (final RuntimeException e) {
+            /* Keep draining on the thread that completed the handler, so that the queued commands are not stranded */
+            this.drain();
+        }
+    }
+
+    /**
+     * Executes a command, returning a future that completes once the command handler has completed
+     */
+    private @NonNull CompletableFuture<?> execute(final @NonNull Execution execution) {
+        final CommandContext<C> commandContext = execution.commandContext;
+        final CompletableFuture<CommandResult<C>> resultFuture = execution.resultFuture;
+        if (resultFuture.isDone()) {
+            /* The command was cancelled while it was queued */
+            return resultFuture;
+        }
+        try {
+            if (this.commandManager.postprocessContext(commandContext, execution.command) != State.ACCEPTED) {
+                resultFuture.complete(new CommandResult<>(commandContext));
+                return resultFuture;
+            }
+            return this.executeHandler(commandContext, execution.command, (result, throwable) -> {
+                if (throwable != null) {
+                    if (throwable instanceof CommandExecutionException) {
+                        resultFuture.completeExceptionally(throwable);
+                    } else {
+                        resultFuture.completeExceptionally(new CommandExecutionException(throwable, commandContext));
+                    }
+                }
+                resultFuture.complete(new CommandResult<>(commandContext));
+            });
+        } catch (final Exception e) {
+            resultFuture.completeExceptionally(e);
+            return resultFuture;
+        }
+    }
+
+
+    /**
+     * Builder for {@link PriorityCommandExecutionCoordinator} instances
+     *
+     * @param <C> Command sender type
+     */
+    public static final class Builder<C> {
+
+        private Executor executor = null;
+        private Function<@NonNull C, @NonNull Integer> senderPriority = sender -> DEFAULT_PRIORITY;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Duration agingInterval = Duration.ofSeconds(1L);
+
+        private Builder() {
+        }
+
+        /**
+         * Specify an executor that will be used to execute commands.
+         * By default the executor uses {@link java.util.concurrent.ForkJoinPool#commonPool()}
+         *
+         * @param executor Executor to use
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withExecutor(final @NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Specify the maximum amount of commands that are executed at the same time. Commands are
+         * only ordered by priority while they wait for one of these slots. A command occupies its slot
+         * until the future of its handler has completed. By default this is the amount of available processors
+         *
+         * @param parallelism Maximum amount of concurrently executing commands
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withParallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Specify the function that determines the priority of a sender. Commands are executed with the
+         * highest of the sender priority and the command priority. By default every sender has the
+         * {@link PriorityCommandExecutionCoordinator#DEFAULT_PRIORITY default priority}
+         *
+         * @param senderPriority Function that maps senders to their priority
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withSenderPriority(final @NonNull Function<@NonNull C, @NonNull Integer> senderPriority) {
+            this.senderPriority = senderPriority;
+            return this;
+        }
+
+        /**
+         * Specify how long a command has to wait to be considered one priority higher. By default this is one second
+         *
+         * @param agingInterval Aging interval, which must be positive
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> withAgingInterval(final @NonNull Duration agingInterval) {
+            if (agingInterval.isNegative() || agingInterval.isZero()) {
+                throw new IllegalArgumentException("The aging interval must be positive");
+            }
+            this.agingInterval = agingInterval;
+            return this;
+        }
+
+        /**
+         * Builder a function that generates a command execution coordinator
+         * using the options specified in this builder
+         *
+         * @return Function that builds the coordinator
+         */
+        public @NonNull Function<@NonNull CommandTree<C>, @NonNull CommandExecutionCoordinator<C>> build() {
+            return tree -> new PriorityCommandExecutionCoordinator<>(
+                    this.executor,
+                    this.senderPriority,
+                    this.parallelism,
+                    this.agingInterval,
+                    tree
+            );
+        }
+
+    }
+
+    private final class Execution {
+
+        private final CommandContext<C> commandContext;
+        private final Command<C> command;
+        private final CompletableFuture<CommandResult<C>> resultFuture;
+        private final long deadline;
+        private final long sequence;
+
+        private Execution(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull Command<C> command,
+                final @NonNull CompletableFuture<CommandResult<C>> resultFuture,
+                final long deadline,
+                final long sequence
+        ) {
+            this.commandContext = commandContext;
+            this.command = command;
+            this.resultFuture = resultFuture;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Command suggestion processor that ranks suggestions by how well they match the input queue head,
+ * and only keeps the best ones.
+ * <p>
+ * Suggestions that start with the input are ranked first, followed by suggestions that start with the
+ * input when ignoring case. After those come suggestions that contain the characters of the input in order,
+ * ranked by how close together the matched characters are. Suggestions that do not match the input
+ * are removed. Suggestions with the same rank keep their original order.
+ * <p>
+ * At most {@link cloud.commandframework.context.CommandContext#getSuggestionLimit()} suggestions are kept,
+ * using a bounded heap so that the candidates never have to be sorted in full.
+ *
+ * @param <C> Command sender type
+ * @since 1.7.0
+ */
+public final class RankingCommandSuggestionProcessor<C> implements CommandSuggestionProcessor<C> {
+
+    private static final int RANK_PREFIX = 0;
+    private static final int RANK_PREFIX_IGNORE_CASE = 1;
+    private static final int RANK_FUZZY = 2;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator.<Candidate>comparingInt(candidate -> candidate.rank)
+            .thenComparingInt(candidate -> candidate.penalty)
+            .thenComparingInt(candidate -> candidate.index);
+
+    private final int limit;
+
+    /**
+     * Create a new ranking processor that keeps as many suggestions as the command context requests
+     */
+    public RankingCommandSuggestionProcessor() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a new ranking processor that keeps at most the given amount of suggestions. If the command
+     * context requests fewer suggestions, the limit of the context is used instead
+     *
+     * @param limit Maximum amount of suggestions
+     */
+    public RankingCommandSuggestionProcessor(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    @Override
+    public @NonNull List<@NonNull String> apply(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull List<@NonNull String> strings
+    ) {
+        final List<String> suggestions = new ArrayList<>();
+        final SuggestionSink sink = this.sink(context, SuggestionSink.collecting(suggestions));
+        for (final String suggestion : strings) {
+            sink.accept(suggestion);
+        }
+        sink.complete();
+        return suggestions;
+    }
+
+    @Override
+    public @NonNull SuggestionSink sink(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull SuggestionSink downstream
+    ) {
+        final int limit = Math.min(this.limit, context.getCommandContext().getSuggestionLimit());
+        /* The head of the queue is the worst candidate that is currently kept */
+        final PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                Math.min(limit, INITIAL_CAPACITY) + 1,
+                CANDIDATE_ORDER.reversed()
+        );
+        return new SuggestionSink() {
+            private int index;
+            private @Nullable String input;
+            private @Nullable String lowerCaseInput;
+
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                final String input = context.getInput().isEmpty() ? "" : context.getInput().peek();
+                if (!input.equals(this.input)) {
+                    this.input = input;
+                    this.lowerCaseInput = input.toLowerCase(Locale.ROOT);
+                }
+                final Candidate candidate = rank(suggestion, this.input, this.lowerCaseInput, this.index++);
+                if (candidate == null) {
+                    return true;
+                }
+                if (candidates.size() < limit) {
+                    candidates.add(candidate);
+                } else if (CANDIDATE_ORDER.compare(candidate, candidates.peek()) < 0) {
+                    candidates.poll();
+                    candidates.add(candidate);
+                }
+                return true;
+            }
+
+            @Override
+            public void complete() {
+                final List<Candidate> ranked = new ArrayList<>(candidates);
+                ranked.sort(CANDIDATE_ORDER);
+                for (final Candidate candidate : ranked) {
+                    if (!downstream.accept(candidate.value)) {
+                        break;
+                    }
+                }
+                downstream.complete();
+            }
+        };
+    }
+
+    private static @Nullable Candidate rank(
+            final @NonNull String suggestion,
+            final @NonNull String input,
+            final @NonNull String lowerCaseInput,
+            final int index
+    ) {
+        if (suggestion.startsWith(input)) {
+            return new Candidate(suggestion, RANK_PREFIX, 0, index);
+        }
+        if (suggestion.regionMatches(true, 0, input, 0, input.length())) {
+            return new Candidate(suggestion, RANK_PREFIX_IGNORE_CASE, 0, index);
+        }
+        /* Match the input characters in order, and penalize the characters that are skipped between them */
+        final String lowerCaseSuggestion = suggestion.toLowerCase(Locale.ROOT);
+        int position = -1;
+        int penalty = 0;
+        for (int i = 0; i < lowerCaseInput.length(); i++) {
+            final int next = lowerCaseSuggestion.indexOf(lowerCaseInput.charAt(i), position + 1);
+            if (next == -1) {
+                return null;
+            }
+            if (position != -1) {
+                penalty += next - position - 1;
+            }
+            position = next;
+        }
+        return new Candidate(suggestion, RANK_FUZZY, penalty, index);
+    }
+
+
+    private static final class Candidate {
+
+        private final String value;
+        private final int rank;
+        private final int penalty;
+        private final int index;
+
+        private Candidate(final @NonNull String value, final int rank, final int penalty, final int index) {
+            this.value = value;
+            this.rank = rank;
+            this.penalty = penalty;
+            this.index = index;
+        }
+
+    }
+
+}
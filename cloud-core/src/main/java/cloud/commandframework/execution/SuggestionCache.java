@@ -0,0 +1,199 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.context.CommandContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Bounded cache of parser suggestions, keyed by the parser instance and the input that
+ * suggestions were requested for.
+ * <p>
+ * Only parsers that are {@link ArgumentParser#isContextFree() context free} and that have
+ * {@link ArgumentParser#hasStaticSuggestions() static suggestions} are served from the cache,
+ * as their suggestions cannot depend on anything but the input. When the cache is full, the
+ * least recently used entry is evicted.
+ * <p>
+ * The cache used by a command manager is set using
+ * {@link cloud.commandframework.CommandManager#setSuggestionCache(SuggestionCache)}.
+ *
+ * @since 1.7.0
+ */
+public final class SuggestionCache {
+
+    /**
+     * Default maximum amount of cached suggestion lists
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final int maximumSize;
+    private final Map<CacheKey, List<String>> entries;
+
+    private SuggestionCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<CacheKey, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, List<String>> eldest) {
+                return this.size() > SuggestionCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Create a new suggestion cache
+     *
+     * @param maximumSize Maximum amount of cached suggestion lists. If this is {@code 0}, nothing will be cached
+     * @return Created cache
+     */
+    public static @NonNull SuggestionCache create(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative: " + maximumSize);
+        }
+        return new SuggestionCache(maximumSize);
+    }
+
+    /**
+     * Check whether or not the suggestions of a parser can be served from the cache
+     *
+     * @param parser Parser
+     * @return {@code true} if the parser suggestions are cacheable, else {@code false}
+     */
+    public boolean isCacheable(final @NonNull ArgumentParser<?, ?> parser) {
+        return this.maximumSize > 0 && parser.isContextFree() && parser.hasStaticSuggestions();
+    }
+
+    /**
+     * Get the suggestions of a parser for the given input. If the parser suggestions are
+     * {@link #isCacheable(ArgumentParser) cacheable}, the suggestions are looked up in the
+     * cache and only computed if they are not yet cached. Otherwise, they are always computed.
+     * <p>
+     * Cached suggestion lists are immutable.
+     *
+     * @param parser  Parser
+     * @param context Command context
+     * @param input   Input string
+     * @param <C>     Command sender type
+     * @return Parser suggestions
+     */
+    public <C> @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull ArgumentParser<C, ?> parser,
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        if (!this.isCacheable(parser)) {
+            return parser.suggestions(context, input);
+        }
+        final CacheKey key = new CacheKey(parser, input);
+        synchronized (this.entries) {
+            final List<String> cachedSuggestions = this.entries.get(key);
+            if (cachedSuggestions != null) {
+                return cachedSuggestions;
+            }
+        }
+        /* Computed outside of the lock, a concurrent request may compute the same suggestions */
+        final List<String> suggestions = Collections.unmodifiableList(new ArrayList<>(parser.suggestions(context, input)));
+        synchronized (this.entries) {
+            this.entries.put(key, suggestions);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Remove all cached suggestions of a parser. This should be called when the suggestions
+     * of the parser change, for example when a registry is reloaded
+     *
+     * @param parser Parser
+     */
+    public void invalidate(final @NonNull ArgumentParser<?, ?> parser) {
+        synchronized (this.entries) {
+            this.entries.keySet().removeIf(key -> key.parser == parser);
+        }
+    }
+
+    /**
+     * Remove all cached suggestions
+     */
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Get the amount of cached suggestion lists
+     *
+     * @return Cache size
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Get the maximum amount of cached suggestion lists
+     *
+     * @return Maximum cache size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+
+    private static final class CacheKey {
+
+        private final ArgumentParser<?, ?> parser;
+        private final String input;
+
+        private CacheKey(final @NonNull ArgumentParser<?, ?> parser, final @NonNull String input) {
+            this.parser = parser;
+            this.input = input;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey cacheKey = (CacheKey) o;
+            return this.parser == cacheKey.parser && this.input.equals(cacheKey.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.parser) + this.input.hashCode();
+        }
+
+    }
+
+}
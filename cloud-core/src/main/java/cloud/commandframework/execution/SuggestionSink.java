@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Consumer that suggestions are pushed into as soon as they are produced.
+ * <p>
+ * The command tree pushes the suggestions of literals and argument suggestion providers into a sink,
+ * rather than collecting them into intermediate lists. Sinks may be chained, so that every stage, such as
+ * a {@link CommandSuggestionProcessor} or a limit, only forwards the suggestions it wants to keep. Producers
+ * stop pushing suggestions once a sink has reported that it does not accept any more suggestions.
+ *
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface SuggestionSink {
+
+    /**
+     * Get a sink that adds the suggestions it accepts to a list
+     *
+     * @param suggestions List to add the suggestions to
+     * @return Collecting sink
+     */
+    static @NonNull SuggestionSink collecting(final @NonNull List<@NonNull String> suggestions) {
+        return suggestion -> {
+            suggestions.add(suggestion);
+            return true;
+        };
+    }
+
+    /**
+     * Get a sink that forwards at most {@code limit} suggestions to another sink
+     *
+     * @param limit      Maximum amount of suggestions to forward
+     * @param downstream Sink to forward the suggestions to
+     * @return Limiting sink
+     */
+    static @NonNull SuggestionSink limit(final int limit, final @NonNull SuggestionSink downstream) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        return new SuggestionSink() {
+            private int remaining = limit;
+
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                if (this.remaining <= 0) {
+                    return false;
+                }
+                this.remaining--;
+                return downstream.accept(suggestion) && this.remaining > 0;
+            }
+
+            @Override
+            public void complete() {
+                downstream.complete();
+            }
+        };
+    }
+
+    /**
+     * Push a suggestion into the sink
+     *
+     * @param suggestion Suggestion
+     * @return {@code true} if the sink accepts more suggestions, {@code false} if the producer may stop
+     *         pushing suggestions
+     */
+    boolean accept(@NonNull String suggestion);
+
+    /**
+     * Signal that no more suggestions will be pushed into the sink. Sinks that hold on to suggestions
+     * forward them once they are completed, and then complete the sinks they forward to
+     */
+    default void complete() {
+    }
+
+}
@@ -24,8 +24,10 @@
 package cloud.commandframework.execution.preprocessor;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.LinkedList;
 import java.util.Objects;
+import java.util.Queue;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -36,7 +38,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public final class CommandPreprocessingContext<C> {
 
     private final CommandContext<C> commandContext;
-    private final LinkedList<String> inputQueue;
+    private Queue<String> input;
 
     /**
      * Construct a new command preprocessing context
@@ -49,7 +51,22 @@ public final class CommandPreprocessingContext<C> {
             final @NonNull LinkedList<@NonNull String> inputQueue
     ) {
         this.commandContext = commandContext;
-        this.inputQueue = inputQueue;
+        this.input = inputQueue;
+    }
+
+    /**
+     * Construct a new command preprocessing context
+     *
+     * @param commandContext Command context
+     * @param commandInput   Command input as supplied by sender
+     * @since 1.7.0
+     */
+    public CommandPreprocessingContext(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        this.commandContext = commandContext;
+        this.input = commandInput;
     }
 
     /**
@@ -63,12 +80,31 @@ public final class CommandPreprocessingContext<C> {
 
     /**
      * Get the original input queue. All changes will persist and will be
-     * used during parsing
+     * used during parsing.
+     * <p>
+     * If the context was created using a {@link CommandInput}, the remaining input is
+     * copied into a new queue the first time this method is called. The queue will then
+     * be used during parsing instead of the command input
      *
      * @return Input queue
      */
     public @NonNull LinkedList<@NonNull String> getInputQueue() {
-        return this.inputQueue;
+        if (!(this.input instanceof LinkedList)) {
+            this.input = new LinkedList<>(this.input);
+        }
+        return (LinkedList<String>) this.input;
+    }
+
+    /**
+     * Get the input that will be used during parsing. This is the {@link CommandInput} that
+     * the context was created with, unless {@link #getInputQueue()} has been used. Unlike
+     * {@link #getInputQueue()}, this will never copy the input
+     *
+     * @return Input
+     * @since 1.7.0
+     */
+    public @NonNull Queue<@NonNull String> getInput() {
+        return this.input;
     }
 
     @Override
@@ -81,12 +117,12 @@ public final class CommandPreprocessingContext<C> {
         }
         final CommandPreprocessingContext<?> that = (CommandPreprocessingContext<?>) o;
         return Objects.equals(this.getCommandContext(), that.getCommandContext())
-                && Objects.equals(this.getInputQueue(), that.getInputQueue());
+                && Objects.equals(this.getInput(), that.getInput());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getCommandContext(), this.getInputQueue());
+        return Objects.hash(this.getCommandContext(), this.getInput());
     }
 
 }
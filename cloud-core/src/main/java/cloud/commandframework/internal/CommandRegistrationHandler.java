@@ -24,6 +24,7 @@
 package cloud.commandframework.internal;
 
 import cloud.commandframework.Command;
+import cloud.commandframework.arguments.StaticArgument;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -52,6 +53,16 @@ public interface CommandRegistrationHandler {
      */
     boolean registerCommand(@NonNull Command<?> command);
 
+    /**
+     * Attempt to unregister the root command that is represented by the given argument.
+     * The default implementation does nothing, as not all platforms support removing commands
+     *
+     * @param rootCommand Root command to unregister
+     * @since 1.7.0
+     */
+    default void unregisterRootCommand(final @NonNull StaticArgument<?> rootCommand) {
+    }
+
     final class NullCommandRegistrationHandler implements CommandRegistrationHandler {
 
         private NullCommandRegistrationHandler() {
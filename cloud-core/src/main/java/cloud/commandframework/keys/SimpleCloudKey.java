@@ -24,7 +24,6 @@
 package cloud.commandframework.keys;
 
 import io.leangen.geantyref.TypeToken;
-import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -97,7 +96,7 @@ public final class SimpleCloudKey<@NonNull T> implements CloudKey<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.name);
+        return this.name.hashCode();
     }
 
     @Override
@@ -25,8 +25,8 @@ package cloud.commandframework.permission;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -43,20 +43,38 @@ public final class AndPermission implements CommandPermission {
     }
 
     /**
-     * Create a new OR permission
+     * Create a new AND permission.
+     * <p>
+     * The permission is flattened and deduplicated. Nested AND permissions are merged into the new permission,
+     * empty permissions are removed as they are always accepted, and string permissions are checked before any
+     * other permissions. If only a single permission remains, it is returned as it is
      *
      * @param permissions Permissions to join
      * @return Constructed permission
      */
     public static @NonNull CommandPermission of(final @NonNull Collection<CommandPermission> permissions) {
-        final Set<CommandPermission> objects = new HashSet<>();
+        final Set<CommandPermission> objects = new LinkedHashSet<>();
+        final Set<CommandPermission> complexPermissions = new LinkedHashSet<>();
         for (final CommandPermission permission : permissions) {
-            if (permission instanceof AndPermission) {
-                objects.addAll(permission.getPermissions());
-            } else {
-                objects.add(permission);
+            final Collection<CommandPermission> innerPermissions = permission instanceof AndPermission
+                    ? permission.getPermissions()
+                    : Collections.singleton(permission);
+            for (final CommandPermission innerPermission : innerPermissions) {
+                if (innerPermission instanceof Permission) {
+                    if (!((Permission) innerPermission).getPermission().isEmpty()) {
+                        objects.add(innerPermission);
+                    }
+                } else {
+                    complexPermissions.add(innerPermission);
+                }
             }
         }
+        objects.addAll(complexPermissions);
+        if (objects.isEmpty()) {
+            return Permission.empty();
+        } else if (objects.size() == 1) {
+            return objects.iterator().next();
+        }
         return new AndPermission(objects);
     }
 
@@ -25,8 +25,8 @@ package cloud.commandframework.permission;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -43,20 +43,38 @@ public final class OrPermission implements CommandPermission {
     }
 
     /**
-     * Create a new OR permission
+     * Create a new OR permission.
+     * <p>
+     * The permission is flattened and deduplicated. Nested OR permissions are merged into the new permission,
+     * and string permissions are checked before any other permissions. If any of the permissions is empty, the
+     * empty permission is returned, as it is always accepted. If only a single permission remains, it is returned
+     * as it is
      *
      * @param permissions Permissions to join
      * @return Constructed permission
      */
     public static @NonNull CommandPermission of(final @NonNull Collection<CommandPermission> permissions) {
-        final Set<CommandPermission> objects = new HashSet<>();
+        final Set<CommandPermission> objects = new LinkedHashSet<>();
+        final Set<CommandPermission> complexPermissions = new LinkedHashSet<>();
         for (final CommandPermission permission : permissions) {
-            if (permission instanceof OrPermission) {
-                objects.addAll(permission.getPermissions());
-            } else {
-                objects.add(permission);
+            final Collection<CommandPermission> innerPermissions = permission instanceof OrPermission
+                    ? permission.getPermissions()
+                    : Collections.singleton(permission);
+            for (final CommandPermission innerPermission : innerPermissions) {
+                if (innerPermission instanceof Permission) {
+                    if (((Permission) innerPermission).getPermission().isEmpty()) {
+                        return Permission.empty();
+                    }
+                    objects.add(innerPermission);
+                } else {
+                    complexPermissions.add(innerPermission);
+                }
             }
         }
+        objects.addAll(complexPermissions);
+        if (objects.size() == 1) {
+            return objects.iterator().next();
+        }
         return new OrPermission(objects);
     }
 
@@ -0,0 +1,98 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.ArgumentTimingRecorder;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.execution.HistogramArgumentTimingRecorder;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class ArgumentTimingTest {
+
+    @Test
+    void testNoTimingsByDefault() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.command(manager.commandBuilder("timing").argument(IntegerArgument.of("number")));
+
+        final CommandResult<TestCommandSender> result = manager.executeCommand(new TestCommandSender(), "timing 5").join();
+        Assertions.assertTrue(result.getCommandContext().getArgumentTimings().isEmpty());
+    }
+
+    @Test
+    void testContextRecorder() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.setArgumentTimingRecorder(ArgumentTimingRecorder.contextRecorder());
+        manager.command(manager.commandBuilder("timing").argument(IntegerArgument.of("number")));
+
+        final CommandResult<TestCommandSender> result = manager.executeCommand(new TestCommandSender(), "timing 5").join();
+        Assertions.assertEquals(2, result.getCommandContext().getArgumentTimings().size());
+        result.getCommandContext().getArgumentTimings().values().forEach(timing -> Assertions.assertTrue(timing.wasSuccess()));
+    }
+
+    @Test
+    void testHistogramRecorder() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final HistogramArgumentTimingRecorder<TestCommandSender> recorder = new HistogramArgumentTimingRecorder<>();
+        manager.setArgumentTimingRecorder(recorder);
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+        manager.command(manager.commandBuilder("timing").argument(argument));
+
+        manager.executeCommand(new TestCommandSender(), "timing 5").join();
+        manager.executeCommand(new TestCommandSender(), "timing 10").join();
+        Assertions.assertThrows(
+                CompletionException.class,
+                () -> manager.executeCommand(new TestCommandSender(), "timing five").join()
+        );
+
+        final HistogramArgumentTimingRecorder.Histogram histogram = recorder.getHistogram(argument).orElseThrow(AssertionError::new);
+        Assertions.assertEquals(3L, histogram.getCount());
+        Assertions.assertEquals(1L, histogram.getFailures());
+        Assertions.assertTrue(histogram.getPercentile(1) >= histogram.getMaxTime());
+
+        recorder.reset();
+        Assertions.assertFalse(recorder.getHistogram(argument).isPresent());
+    }
+
+    @Test
+    void testHistogramRemovedWithCommand() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final HistogramArgumentTimingRecorder<TestCommandSender> recorder = new HistogramArgumentTimingRecorder<>();
+        manager.setArgumentTimingRecorder(recorder);
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+        manager.command(manager.commandBuilder("timing").argument(argument));
+
+        manager.executeCommand(new TestCommandSender(), "timing 5").join();
+        Assertions.assertTrue(recorder.getHistogram(argument).isPresent());
+
+        manager.deleteRootCommand("timing");
+        Assertions.assertFalse(recorder.getHistogram(argument).isPresent());
+    }
+
+}
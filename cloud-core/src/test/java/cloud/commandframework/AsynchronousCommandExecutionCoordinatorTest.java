@@ -0,0 +1,184 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.exceptions.CommandExecutionRejectedException;
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class AsynchronousCommandExecutionCoordinatorTest {
+
+    private static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        final CommandManager<TestCommandSender> manager = createManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withVirtualThreads()
+                        .build()
+        );
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        manager.command(manager.commandBuilder("virtual", SimpleCommandMeta.empty())
+                .handler(c -> thread.set(Thread.currentThread()))
+                .build());
+        manager.executeCommand(new TestCommandSender(), "virtual").get(5, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(thread.get());
+        Assertions.assertNotEquals(Thread.currentThread(), thread.get());
+
+        /* Falls back to the default executor on runtimes without virtual threads */
+        final Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException ignored) {
+            return;
+        }
+        Assertions.assertEquals(Boolean.TRUE, isVirtual.invoke(thread.get()));
+    }
+
+    @Test
+    void testRejectWhenQueueIsFull() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CommandManager<TestCommandSender> manager = createBlockingManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withMaximumInFlight(1)
+                        .withQueueLimit(1),
+                latch
+        );
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<CommandResult<TestCommandSender>> running = manager.executeCommand(sender, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> queued = manager.executeCommand(sender, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> rejected = manager.executeCommand(sender, "block");
+
+        Assertions.assertFalse(assertRejected(rejected).isDropped());
+        Assertions.assertFalse(queued.isDone());
+
+        latch.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testDropOldest() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CommandManager<TestCommandSender> manager = createBlockingManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withMaximumInFlight(1)
+                        .withQueueLimit(1)
+                        .withOverflowPolicy(AsynchronousCommandExecutionCoordinator.OverflowPolicy.DROP_OLDEST),
+                latch
+        );
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<CommandResult<TestCommandSender>> running = manager.executeCommand(sender, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> dropped = manager.executeCommand(sender, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> queued = manager.executeCommand(sender, "block");
+
+        Assertions.assertTrue(assertRejected(dropped).isDropped());
+
+        latch.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testMaximumInFlightPerSender() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CommandManager<TestCommandSender> manager = createBlockingManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withMaximumInFlightPerSender(1),
+                latch
+        );
+        final AsynchronousCommandExecutionCoordinator<?> coordinator =
+                (AsynchronousCommandExecutionCoordinator<?>) manager.commandExecutionCoordinator();
+        final TestCommandSender first = new TestCommandSender();
+        final TestCommandSender second = new TestCommandSender();
+        final CompletableFuture<CommandResult<TestCommandSender>> firstRunning = manager.executeCommand(first, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> firstQueued = manager.executeCommand(first, "block");
+        final CompletableFuture<CommandResult<TestCommandSender>> secondRunning = manager.executeCommand(second, "block");
+
+        Assertions.assertEquals(1, coordinator.getQueuedExecutions());
+
+        latch.countDown();
+        CompletableFuture.allOf(firstRunning, firstQueued, secondRunning).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(0, coordinator.getQueuedExecutions());
+    }
+
+    @Test
+    void testQueueLimitRequiresExecutionLimit() {
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> AsynchronousCommandExecutionCoordinator.newBuilder().withQueueLimit(1).build()
+        );
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> AsynchronousCommandExecutionCoordinator.newBuilder()
+                        .withOverflowPolicy(AsynchronousCommandExecutionCoordinator.OverflowPolicy.DROP_OLDEST)
+                        .build()
+        );
+    }
+
+    private static CommandManager<TestCommandSender> createBlockingManager(
+            final AsynchronousCommandExecutionCoordinator.Builder<TestCommandSender> builder,
+            final CountDownLatch latch
+    ) {
+        final CommandManager<TestCommandSender> manager = createManager(builder.withExecutor(EXECUTOR).build());
+        manager.command(manager.commandBuilder("block", SimpleCommandMeta.empty())
+                .handler(c -> {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build());
+        return manager;
+    }
+
+    private static CommandExecutionRejectedException assertRejected(final CompletableFuture<?> future) throws Exception {
+        final ExecutionException exception = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS)
+        );
+        Assertions.assertTrue(exception.getCause() instanceof CommandExecutionRejectedException);
+        return (CommandExecutionRejectedException) exception.getCause();
+    }
+
+}
@@ -24,6 +24,7 @@
 package cloud.commandframework;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.ArgumentTimingRecorder;
 import cloud.commandframework.execution.CommandResult;
 import java.util.Collection;
 import org.junit.jupiter.api.Assertions;
@@ -44,6 +45,7 @@ final class CommandPerformanceTest {
     @BeforeAll
     static void setup() {
         manager = createManager();
+        manager.setArgumentTimingRecorder(ArgumentTimingRecorder.contextRecorder());
 
         final StringBuilder literalBuilder = new StringBuilder("literals");
 
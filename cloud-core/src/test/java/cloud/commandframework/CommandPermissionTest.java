@@ -24,6 +24,7 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.keys.SimpleCloudKey;
 import cloud.commandframework.meta.CommandMeta;
@@ -36,6 +37,7 @@ import cloud.commandframework.permission.PredicatePermission;
 import java.util.Arrays;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -137,6 +139,40 @@ class CommandPermissionTest {
         );
     }
 
+    @Test
+    void testFlattenedPermissions() {
+        final CommandPermission predicate = (PredicatePermission<?>) (s) -> true;
+        final CommandPermission orPermission = OrPermission.of(Arrays.asList(
+                predicate,
+                Permission.of("perm.one"),
+                OrPermission.of(Arrays.asList(Permission.of("perm.two"), Permission.of("perm.one")))
+        ));
+        assertThat(orPermission.getPermissions())
+                .containsExactly(Permission.of("perm.one"), Permission.of("perm.two"), predicate)
+                .inOrder();
+        assertThat(OrPermission.of(Arrays.asList(orPermission, Permission.empty()))).isEqualTo(Permission.empty());
+        assertThat(OrPermission.of(Arrays.asList(Permission.of("perm.one"), Permission.of("perm.one"))))
+                .isEqualTo(Permission.of("perm.one"));
+        assertThat(AndPermission.of(Arrays.asList(Permission.empty(), Permission.of("perm.one"))))
+                .isEqualTo(Permission.of("perm.one"));
+    }
+
+    @Test
+    void testPermissionCache() {
+        final AtomicInteger checks = new AtomicInteger();
+        final CommandPermission counting = PredicatePermission.of(
+                SimpleCloudKey.of("counting"), $ -> checks.incrementAndGet() > 0
+        );
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), manager);
+        assertTrue(context.hasPermission(counting.or(Permission.of("perm.one"))));
+        assertTrue(context.hasPermission(Permission.of("perm.two").or(counting)));
+        assertThat(checks.get()).isEqualTo(1);
+
+        /* The cache is scoped to the context */
+        assertTrue(new CommandContext<>(new TestCommandSender(), manager).hasPermission(counting));
+        assertThat(checks.get()).isEqualTo(2);
+    }
+
 
     private static final class PermissionOutputtingCommandManager extends CommandManager<TestCommandSender> {
 
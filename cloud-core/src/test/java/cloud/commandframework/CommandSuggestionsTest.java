@@ -23,20 +23,37 @@
 //
 package cloud.commandframework;
 
+import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.compound.ArgumentTriplet;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.standard.BooleanArgument;
 import cloud.commandframework.arguments.standard.EnumArgument;
 import cloud.commandframework.arguments.standard.IntegerArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.RankingCommandSuggestionProcessor;
+import cloud.commandframework.execution.SuggestionCache;
+import cloud.commandframework.execution.SuggestionSink;
 import cloud.commandframework.types.tuples.Pair;
 import cloud.commandframework.types.tuples.Triplet;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static cloud.commandframework.util.TestUtils.FAILING_PERMISSION;
 import static cloud.commandframework.util.TestUtils.createManager;
 
 public class CommandSuggestionsTest {
@@ -394,6 +411,233 @@ public class CommandSuggestionsTest {
         Assertions.assertEquals(Collections.singletonList("later"), suggestions6);
     }
 
+    @Test
+    void testLiteralPrefixSuggestions() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        for (final String literal : Arrays.asList("beta", "alphabet", "alpine", "alpha")) {
+            manager.command(manager.commandBuilder("prefix").literal(literal));
+        }
+        manager.command(manager.commandBuilder("prefix").literal("alps").permission(FAILING_PERMISSION));
+
+        Assertions.assertEquals(
+                Arrays.asList("alpha", "alphabet", "alpine", "beta"),
+                manager.suggest(new TestCommandSender(), "prefix ")
+        );
+        Assertions.assertEquals(
+                Arrays.asList("alpha", "alphabet", "alpine"),
+                manager.suggest(new TestCommandSender(), "prefix al")
+        );
+        Assertions.assertEquals(
+                Collections.singletonList("alphabet"),
+                manager.suggest(new TestCommandSender(), "prefix alpha")
+        );
+        Assertions.assertEquals(Collections.emptyList(), manager.suggest(new TestCommandSender(), "prefix alq"));
+    }
+
+    @Test
+    void testSuggestionCache() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final CommandArgument<TestCommandSender, TestEnum> argument = EnumArgument.of(TestEnum.class, "enum");
+        manager.command(manager.commandBuilder("cache").argument(argument));
+        manager.command(manager.commandBuilder("nocache").argument(StringArgument.<TestCommandSender>newBuilder("str")
+                .withSuggestionsProvider((c, s) -> Collections.singletonList("one"))));
+        final SuggestionCache suggestionCache = manager.getSuggestionCache();
+
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), manager.suggest(new TestCommandSender(), "cache "));
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), manager.suggest(new TestCommandSender(), "cache "));
+        Assertions.assertEquals(1, suggestionCache.size());
+        Assertions.assertEquals(Collections.singletonList("foo"), manager.suggest(new TestCommandSender(), "cache f"));
+        Assertions.assertEquals(2, suggestionCache.size());
+
+        Assertions.assertEquals(Collections.singletonList("one"), manager.suggest(new TestCommandSender(), "nocache "));
+        Assertions.assertEquals(2, suggestionCache.size());
+
+        suggestionCache.invalidate(argument.getParser());
+        Assertions.assertEquals(0, suggestionCache.size());
+    }
+
+    @Test
+    void testSuggestionSessions() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final AtomicInteger parses = new AtomicInteger();
+        manager.command(manager.commandBuilder("session")
+                .argument(CommandArgument.<TestCommandSender, Integer>ofType(Integer.class, "num")
+                        .withParser((context, inputQueue) -> {
+                            parses.incrementAndGet();
+                            return ArgumentParseResult.success(Integer.parseInt(inputQueue.remove()));
+                        }))
+                .argument(StringArgument.<TestCommandSender>newBuilder("str")
+                        .withSuggestionsProvider((c, s) -> Collections.singletonList("n" + c.<Integer>get("num")))));
+        manager.setSuggestionSessions(SuggestionSessions.create(Duration.ofMinutes(1), 10));
+        final TestCommandSender sender = new TestCommandSender();
+
+        Assertions.assertEquals(Collections.singletonList("n5"), manager.suggest(sender, "session 5 "));
+        Assertions.assertEquals(1, parses.get());
+        /* The input extends the previous input, so the number is not parsed again */
+        Assertions.assertEquals(Collections.singletonList("n5"), manager.suggest(sender, "session 5 n"));
+        Assertions.assertEquals(1, parses.get());
+
+        Assertions.assertEquals(Collections.singletonList("n6"), manager.suggest(sender, "session 6 "));
+        Assertions.assertEquals(2, parses.get());
+        Assertions.assertEquals(Collections.singletonList("n6"), manager.suggest(new TestCommandSender(), "session 6 n"));
+        Assertions.assertEquals(3, parses.get());
+
+        /* Modifying the tree discards the sessions */
+        manager.command(manager.commandBuilder("other"));
+        Assertions.assertEquals(Collections.singletonList("n6"), manager.suggest(sender, "session 6 n"));
+        Assertions.assertEquals(4, parses.get());
+    }
+
+    @Test
+    void testSuggestionSessionRawInput() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final AtomicInteger parses = new AtomicInteger();
+        manager.command(manager.commandBuilder("rawsession")
+                .argument(CommandArgument.<TestCommandSender, Integer>ofType(Integer.class, "num")
+                        .withParser((context, inputQueue) -> {
+                            parses.incrementAndGet();
+                            /* Stores the raw input of this request in the context */
+                            context.getRawInput();
+                            return ArgumentParseResult.success(Integer.parseInt(inputQueue.remove()));
+                        }))
+                .argument(StringArgument.<TestCommandSender>newBuilder("str")
+                        .withSuggestionsProvider((c, s) -> Collections.singletonList("n" + c.getRawInput().getLast()))));
+        manager.setSuggestionSessions(SuggestionSessions.create(Duration.ofMinutes(1), 10));
+        final TestCommandSender sender = new TestCommandSender();
+
+        manager.suggest(sender, "rawsession 5 ");
+        /* The session is resumed, but the raw input of the previous request is not */
+        Assertions.assertEquals(Collections.singletonList("nn"), manager.suggest(sender, "rawsession 5 n"));
+        Assertions.assertEquals(1, parses.get());
+    }
+
+    @Test
+    void testSuggestionLimit() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.command(manager.commandBuilder("limit").argument(StringArgument.<TestCommandSender>newBuilder("str")
+                .withSuggestionsProvider((c, s) -> Arrays.asList("xmas", "Max", "maximum", "amax", "mix", "max"))));
+
+        Assertions.assertEquals(
+                Arrays.asList("maximum", "max"),
+                manager.suggest(new TestCommandSender(), "limit ma", 2)
+        );
+
+        /* The tree does not apply the limit, since its suggestions have not been filtered yet */
+        final CommandContext<TestCommandSender> context = new CommandContext<>(true, new TestCommandSender(), manager);
+        context.setSuggestionLimit(2);
+        Assertions.assertEquals(
+                6,
+                manager.getCommandTree().getSuggestions(context, new LinkedList<>(Arrays.asList("limit", "ma"))).size()
+        );
+
+        manager.setCommandSuggestionProcessor(new RankingCommandSuggestionProcessor<>());
+        Assertions.assertEquals(
+                Arrays.asList("maximum", "max", "Max", "amax"),
+                manager.suggest(new TestCommandSender(), "limit max")
+        );
+        Assertions.assertEquals(
+                Arrays.asList("maximum", "max", "Max"),
+                manager.suggest(new TestCommandSender(), "limit max", 3)
+        );
+    }
+
+    @Test
+    void testSuggestionSink() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.command(manager.commandBuilder("sink").literal("alpha"));
+        manager.command(manager.commandBuilder("sink").literal("beta"));
+        manager.command(manager.commandBuilder("sink").literal("gamma"));
+
+        final List<String> suggestions = new ArrayList<>();
+        final AtomicInteger completions = new AtomicInteger();
+        manager.suggest(new TestCommandSender(), "sink ", new SuggestionSink() {
+            @Override
+            public boolean accept(final @NonNull String suggestion) {
+                suggestions.add(suggestion);
+                return suggestions.size() < 2;
+            }
+
+            @Override
+            public void complete() {
+                completions.incrementAndGet();
+            }
+        }).join();
+
+        Assertions.assertEquals(Arrays.asList("alpha", "beta"), suggestions);
+        Assertions.assertEquals(1, completions.get());
+    }
+
+    @Test
+    void testSuggestionsFuture() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final CompletableFuture<List<String>> pendingSuggestions = new CompletableFuture<>();
+        manager.command(manager.commandBuilder("future")
+                .argument(CommandArgument.<TestCommandSender, String>ofType(String.class, "str")
+                        .withParser(new ArgumentParser<TestCommandSender, String>() {
+                            @Override
+                            public @NonNull ArgumentParseResult<String> parse(
+                                    final @NonNull CommandContext<TestCommandSender> commandContext,
+                                    final @NonNull Queue<@NonNull String> inputQueue
+                            ) {
+                                return ArgumentParseResult.success(inputQueue.remove());
+                            }
+
+                            @Override
+                            public @NonNull CompletableFuture<@NonNull List<@NonNull String>> suggestionsFuture(
+                                    final @NonNull CommandContext<TestCommandSender> commandContext,
+                                    final @NonNull String input
+                            ) {
+                                return pendingSuggestions;
+                            }
+                        })));
+
+        final CompletableFuture<List<String>> suggestions = manager.suggestFuture(new TestCommandSender(), "future a");
+        Assertions.assertFalse(suggestions.isDone());
+        pendingSuggestions.complete(Arrays.asList("abc", "def"));
+        Assertions.assertEquals(Collections.singletonList("abc"), suggestions.join());
+        Assertions.assertEquals(Collections.singletonList("abc"), manager.suggest(new TestCommandSender(), "future a"));
+    }
+
+    @Test
+    void testSuggestionCoalescer() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final AtomicInteger requests = new AtomicInteger();
+        manager.command(manager.commandBuilder("coalesced")
+                .argument(StringArgument.<TestCommandSender>newBuilder("str").withSuggestionsProvider((c, i) -> {
+                    requests.incrementAndGet();
+                    return Arrays.asList("one", "two");
+                })));
+        manager.setSuggestionCoalescer(SuggestionCoalescer.create(Duration.ofMillis(50L)));
+
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<List<String>> superseded = manager.suggestFuture(sender, "coalesced ");
+        final CompletableFuture<List<String>> other = manager.suggestFuture(new TestCommandSender(), "coalesced ");
+        final CompletableFuture<List<String>> latest = manager.suggestFuture(sender, "coalesced t");
+
+        Assertions.assertTrue(superseded.isCancelled());
+        Assertions.assertEquals(Collections.singletonList("two"), latest.join());
+        Assertions.assertEquals(Arrays.asList("one", "two"), other.join());
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    void testSuggestionCoalescerExecutor() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.command(manager.commandBuilder("coalesced").argument(StringArgument.of("str")));
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final AtomicInteger executions = new AtomicInteger();
+        try {
+            manager.setSuggestionCoalescer(SuggestionCoalescer.create(Duration.ofMillis(10L), scheduler, runnable -> {
+                executions.incrementAndGet();
+                runnable.run();
+            }));
+            manager.suggestFuture(new TestCommandSender(), "coalesced ").join();
+            Assertions.assertEquals(1, executions.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
     public enum TestEnum {
         FOO,
         BAR
@@ -24,6 +24,7 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.compound.ArgumentPair;
 import cloud.commandframework.arguments.flags.CommandFlag;
 import cloud.commandframework.arguments.preprocessor.RegexPreprocessor;
@@ -33,10 +34,16 @@ import cloud.commandframework.arguments.standard.IntegerArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
+import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
+import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import cloud.commandframework.types.tuples.Pair;
 import io.leangen.geantyref.TypeToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -46,6 +53,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static cloud.commandframework.util.TestUtils.FAILING_PERMISSION;
 import static cloud.commandframework.util.TestUtils.createManager;
 
 class CommandTreeTest {
@@ -452,6 +460,206 @@ class CommandTreeTest {
                 literalAliasResult.getFirst().getArguments().get(1).getName());
     }
 
+    @Test
+    void testLiteralIndexIgnoresCase() {
+        manager.command(
+                manager.commandBuilder("indexedliteral")
+                       .argument(StringArgument.of("variable"))
+        );
+        manager.command(
+                manager.commandBuilder("indexedliteral")
+                       .literal("literal", "literalalias")
+        );
+
+        /* Literals are matched ignoring case, and must take precedence over the variable sibling */
+        final Pair<Command<TestCommandSender>, Exception> result = manager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), manager),
+                new LinkedList<>(Arrays.asList("IndexedLiteral", "LiteralAlias"))
+        );
+        Assertions.assertNull(result.getSecond());
+        Assertions.assertEquals("literal", result.getFirst().getArguments().get(1).getName());
+        Assertions.assertNotNull(manager.getCommandTree().getNamedNode("INDEXEDLITERAL"));
+    }
+
+    @Test
+    void testAliasRegisteredAfterInsertion() {
+        final CommandManager<TestCommandSender> aliasManager = createManager();
+        final Command<TestCommandSender> command = aliasManager.commandBuilder("late").literal("sub").build();
+        aliasManager.command(command);
+        aliasManager.getCommandTree().compile();
+        final long modificationCount = aliasManager.getCommandTree().getModificationCount();
+
+        ((StaticArgument<TestCommandSender>) command.getArguments().get(0)).registerAlias("tardy");
+        ((StaticArgument<TestCommandSender>) command.getArguments().get(1)).registerAlias("child");
+
+        Assertions.assertNotEquals(modificationCount, aliasManager.getCommandTree().getModificationCount());
+        Assertions.assertNull(aliasManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), aliasManager),
+                new LinkedList<>(Arrays.asList("tardy", "child"))
+        ).getSecond());
+    }
+
+    @Test
+    void testBulkInsertion() {
+        manager.commands(Arrays.asList(
+                manager.commandBuilder("bulk").literal("one").build(),
+                manager.commandBuilder("bulk").literal("two").argument(IntegerArgument.of("num")).build(),
+                manager.commandBuilder("bulk").build()
+        ));
+
+        final Pair<Command<TestCommandSender>, Exception> result = manager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), manager),
+                new LinkedList<>(Arrays.asList("bulk", "two", "5"))
+        );
+        Assertions.assertNull(result.getSecond());
+        Assertions.assertEquals(3, result.getFirst().getArguments().size());
+        Assertions.assertNotNull(manager.getCommandTree().getNamedNode("bulk").getNodeMeta().get("permission"));
+
+        /* Ambiguity must still be detected when the conflicting commands are inserted together */
+        Assertions.assertThrows(AmbiguousNodeException.class, () -> manager.commands(Arrays.asList(
+                manager.commandBuilder("bulkambiguous").argument(StringArgument.of("first")).build(),
+                manager.commandBuilder("bulkambiguous").argument(IntegerArgument.of("second")).build()
+        )));
+    }
+
+    @Test
+    void testCompiledTree() {
+        final CommandManager<TestCommandSender> compiledManager = createManager();
+        compiledManager.command(compiledManager.commandBuilder("compiled", "c").literal("one"));
+        compiledManager.command(compiledManager.commandBuilder("compiled")
+                .literal("two")
+                .argument(IntegerArgument.optional("num")));
+        compiledManager.getCommandTree().compile();
+
+        Assertions.assertTrue(compiledManager.getCommandTree().isCompiled());
+        Assertions.assertNull(compiledManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), compiledManager),
+                new LinkedList<>(Arrays.asList("c", "two"))
+        ).getSecond());
+
+        /* Commands inserted after compilation must be visible to the parser */
+        compiledManager.command(compiledManager.commandBuilder("compiled").literal("three"));
+        final Pair<Command<TestCommandSender>, Exception> result = compiledManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), compiledManager),
+                new LinkedList<>(Arrays.asList("compiled", "three"))
+        );
+        Assertions.assertNull(result.getSecond());
+        Assertions.assertEquals("three", result.getFirst().getArguments().get(1).getName());
+        Assertions.assertEquals(Collections.singletonList("three"), compiledManager.suggest(new TestCommandSender(), "compiled th"));
+    }
+
+    @Test
+    void testDeleteRootCommand() {
+        final CommandManager<TestCommandSender> deletingManager = createManager();
+        deletingManager.command(deletingManager.commandBuilder("deleted", "d").literal("one"));
+        deletingManager.command(deletingManager.commandBuilder("deleted").literal("other"));
+        deletingManager.command(deletingManager.commandBuilder("kept"));
+        deletingManager.getCommandTree().compile();
+        final long modificationCount = deletingManager.getCommandTree().getModificationCount();
+
+        Assertions.assertTrue(deletingManager.deleteRootCommand("d"));
+        Assertions.assertNotEquals(modificationCount, deletingManager.getCommandTree().getModificationCount());
+        Assertions.assertFalse(deletingManager.deleteRootCommand("deleted"));
+        Assertions.assertEquals(1, deletingManager.getCommands().size());
+        Assertions.assertNull(deletingManager.getCommandTree().getNamedNode("deleted"));
+        Assertions.assertThrows(CompletionException.class, () ->
+                deletingManager.executeCommand(new TestCommandSender(), "deleted one").join());
+        Assertions.assertNull(deletingManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), deletingManager),
+                new LinkedList<>(Collections.singletonList("kept"))
+        ).getSecond());
+
+        /* The root command may be registered again */
+        deletingManager.command(deletingManager.commandBuilder("deleted").literal("two"));
+        deletingManager.executeCommand(new TestCommandSender(), "deleted two").join();
+    }
+
+    @Test
+    void testCloseMatches() {
+        final CommandManager<TestCommandSender> closeManager = createManager();
+        closeManager.command(closeManager.commandBuilder("teleport", "tp"));
+        closeManager.command(closeManager.commandBuilder("team").literal("join"));
+        closeManager.command(closeManager.commandBuilder("team").literal("leave"));
+        closeManager.command(closeManager.commandBuilder("tell").permission(FAILING_PERMISSION));
+        closeManager.getCommandTree().compile();
+
+        final Exception exception = closeManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), closeManager),
+                new LinkedList<>(Collections.singletonList("Telport"))
+        ).getSecond();
+        Assertions.assertTrue(exception instanceof NoSuchCommandException);
+        Assertions.assertEquals(Collections.singletonList("teleport"), ((NoSuchCommandException) exception).getCloseMatches());
+
+        /* Commands that the sender may not use are not suggested */
+        final Exception restricted = closeManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), closeManager),
+                new LinkedList<>(Collections.singletonList("tel"))
+        ).getSecond();
+        Assertions.assertEquals(Collections.emptyList(), ((NoSuchCommandException) restricted).getCloseMatches());
+
+        /* Commands inserted after compilation are indexed */
+        closeManager.command(closeManager.commandBuilder("teleports"));
+        Assertions.assertEquals(
+                Arrays.asList("teleport", "teleports"),
+                closeManager.getCommandTree().getNamedNode("team").getParent().getCloseLiterals("teleprt", 5)
+        );
+        Assertions.assertEquals(
+                Collections.singletonList("leave"),
+                closeManager.getCommandTree().getNamedNode("team").getCloseLiterals("laeve", 5)
+        );
+    }
+
+    @Test
+    void testStacklessSyntaxException() {
+        final CommandManager<TestCommandSender> stacklessManager = createManager();
+        stacklessManager.command(stacklessManager.commandBuilder("stackless").literal("one"));
+
+        final Exception withStackTrace = stacklessManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), stacklessManager),
+                new LinkedList<>(Arrays.asList("stackless", "two"))
+        ).getSecond();
+        Assertions.assertTrue(withStackTrace instanceof InvalidSyntaxException);
+        Assertions.assertNotEquals(0, withStackTrace.getStackTrace().length);
+
+        stacklessManager.setSetting(CommandManager.ManagerSettings.STACKLESS_SYNTAX_EXCEPTIONS, true);
+        final Exception withoutStackTrace = stacklessManager.getCommandTree().parse(
+                new CommandContext<>(new TestCommandSender(), stacklessManager),
+                new LinkedList<>(Arrays.asList("stackless", "two"))
+        ).getSecond();
+        Assertions.assertTrue(withoutStackTrace instanceof InvalidSyntaxException);
+        Assertions.assertEquals(0, withoutStackTrace.getStackTrace().length);
+        Assertions.assertEquals("stackless one", ((InvalidSyntaxException) withoutStackTrace).getCorrectSyntax());
+        Assertions.assertEquals(1, ((InvalidSyntaxException) withoutStackTrace).getCurrentChain().size());
+    }
+
+    @Test
+    void testLazySyntaxExceptionSerialization() throws Exception {
+        final InvalidSyntaxException exception = new InvalidSyntaxException(
+                () -> "lazy syntax",
+                "sender",
+                Collections::emptyList,
+                false
+        );
+        final NoSuchCommandException noSuchCommandException = new NoSuchCommandException(
+                "sender",
+                Collections::emptyList,
+                "lazy",
+                () -> Collections.singletonList("lazier")
+        );
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(exception);
+            outputStream.writeObject(noSuchCommandException);
+        }
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final InvalidSyntaxException deserialized = (InvalidSyntaxException) inputStream.readObject();
+            Assertions.assertEquals("lazy syntax", deserialized.getCorrectSyntax());
+            Assertions.assertEquals(Collections.emptyList(), deserialized.getCurrentChain());
+            final NoSuchCommandException deserializedNoSuchCommand = (NoSuchCommandException) inputStream.readObject();
+            Assertions.assertEquals(Collections.singletonList("lazier"), deserializedNoSuchCommand.getCloseMatches());
+        }
+    }
+
     @Test
     void testDuplicateArgument() {
         final CommandArgument<TestCommandSender, String> argument = StringArgument.of("test");
@@ -0,0 +1,149 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.execution.OrderedCommandExecutionCoordinator;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+/**
+ * Compares the execution coordinators when command handlers block, such as when they perform database queries
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class CoordinatorBenchmark {
+
+    private static final int COMMANDS = 256;
+    private static final int SENDERS = 16;
+
+    @Param({"fixed", "common", "virtual", "ordered"})
+    public String coordinator;
+
+    @Param({"1"})
+    public int blockingMillis;
+
+    private ExecutorService executor;
+    private CommandManager<TestCommandSender> manager;
+    private TestCommandSender[] senders;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        final Function<CommandTree<TestCommandSender>, CommandExecutionCoordinator<TestCommandSender>> function;
+        switch (coordinator) {
+            case "fixed":
+                function = AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withExecutor(executor)
+                        .build();
+                break;
+            case "common":
+                function = AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder().build();
+                break;
+            case "virtual":
+                function = AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withVirtualThreads()
+                        .build();
+                break;
+            case "ordered":
+                function = OrderedCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withVirtualThreads()
+                        .build();
+                break;
+            default:
+                throw new IllegalArgumentException(coordinator);
+        }
+        manager = createManager(function);
+        manager.command(manager.commandBuilder("block").handler(c -> {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        if (coordinator.equals("virtual") || coordinator.equals("ordered")) {
+            requireVirtualThreads();
+        }
+
+        senders = new TestCommandSender[SENDERS];
+        for (int i = 0; i < SENDERS; i++) {
+            senders[i] = new TestCommandSender();
+        }
+    }
+
+    /**
+     * The coordinators fall back to the common pool on runtimes without virtual threads, which would
+     * label common pool results as virtual thread results
+     */
+    private void requireVirtualThreads() {
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        manager.command(manager.commandBuilder("thread").handler(c -> thread.set(Thread.currentThread())));
+        manager.executeCommand(new TestCommandSender(), "thread").join();
+        try {
+            final Method isVirtual = Thread.class.getMethod("isVirtual");
+            if (Boolean.TRUE.equals(isVirtual.invoke(thread.get()))) {
+                return;
+            }
+        } catch (final ReflectiveOperationException ignored) {
+        }
+        throw new IllegalStateException("Virtual threads are not available on this runtime");
+    }
+
+    @TearDown
+    public void clean() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Fork(3)
+    public void testBlockingExecution() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            futures[i] = manager.executeCommand(senders[i % SENDERS], "block");
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+}
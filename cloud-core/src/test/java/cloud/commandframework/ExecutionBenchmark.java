@@ -44,6 +44,7 @@ public class ExecutionBenchmark {
 
     private CommandManager<TestCommandSender> manager;
     private String literalChain;
+    private String wideTreeInput;
 
     @Setup(Level.Trial)
     public void setup() {
@@ -61,6 +62,11 @@ public class ExecutionBenchmark {
         manager.command(builder.build());
         literalChain = literalBuilder.toString();
 
+        /* Create 400 root literals, each with an alias, to exercise wide nodes */
+        for (int i = 0; i < 400; i++) {
+            manager.command(manager.commandBuilder("wide" + i, "alias" + i).literal("sub"));
+        }
+        wideTreeInput = "alias399 sub";
     }
 
     @TearDown
@@ -73,4 +79,10 @@ public class ExecutionBenchmark {
         manager.executeCommand(new TestCommandSender(), literalChain).join();
     }
 
+    @Benchmark
+    @Fork(3)
+    public void testWideTreeParsing() {
+        manager.executeCommand(new TestCommandSender(), wideTreeInput).join();
+    }
+
 }
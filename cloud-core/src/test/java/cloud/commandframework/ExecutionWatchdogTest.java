@@ -0,0 +1,139 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.exceptions.CommandExecutionTimeoutException;
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
+import cloud.commandframework.execution.CommandExecutionHandler;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.execution.ExecutionWatchdog;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class ExecutionWatchdogTest {
+
+    @Test
+    void testFutureHandlerTimeout() throws Exception {
+        final ExecutionWatchdog watchdog = ExecutionWatchdog.newBuilder()
+                .withTickDuration(Duration.ofMillis(5L))
+                .build();
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.setExecutionWatchdog(watchdog);
+        final CompletableFuture<Void> handlerFuture = new CompletableFuture<>();
+        manager.command(manager.commandBuilder("hang", SimpleCommandMeta.empty())
+                .meta(ExecutionWatchdog.META_TIMEOUT, Duration.ofMillis(20L))
+                .handler((CommandExecutionHandler.FutureCommandExecutionHandler<TestCommandSender>) c -> handlerFuture)
+                .build());
+        manager.command(manager.commandBuilder("fast", SimpleCommandMeta.empty())
+                .meta(ExecutionWatchdog.META_TIMEOUT, Duration.ofMillis(20L))
+                .build());
+
+        assertTimedOut(manager.executeCommand(new TestCommandSender(), "hang"));
+        Assertions.assertTrue(handlerFuture.isCancelled());
+
+        manager.executeCommand(new TestCommandSender(), "fast").get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1L, watchdog.getTimedOutExecutions());
+        watchdog.shutdown();
+    }
+
+    @Test
+    void testBlockingHandlerInterrupted() throws Exception {
+        final ExecutionWatchdog watchdog = ExecutionWatchdog.newBuilder()
+                .withDefaultTimeout(Duration.ofMillis(20L))
+                .withTickDuration(Duration.ofMillis(5L))
+                .withInterruption(true)
+                .build();
+        final CommandManager<TestCommandSender> manager = createManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder().build()
+        );
+        manager.setExecutionWatchdog(watchdog);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        manager.command(manager.commandBuilder("block", SimpleCommandMeta.empty())
+                .handler(c -> {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1L));
+                    } catch (final InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                })
+                .build());
+
+        assertTimedOut(manager.executeCommand(new TestCommandSender(), "block"));
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1L, watchdog.getTimedOutExecutions());
+        watchdog.shutdown();
+    }
+
+    @Test
+    void testBlockingHandlerTimedOutWithoutInterruption() throws Exception {
+        final ExecutionWatchdog watchdog = ExecutionWatchdog.newBuilder()
+                .withDefaultTimeout(Duration.ofMillis(20L))
+                .withTickDuration(Duration.ofMillis(5L))
+                .build();
+        final CommandManager<TestCommandSender> manager = createManager(
+                AsynchronousCommandExecutionCoordinator.<TestCommandSender>newBuilder().build()
+        );
+        manager.setExecutionWatchdog(watchdog);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch returned = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        manager.command(manager.commandBuilder("block", SimpleCommandMeta.empty())
+                .handler(c -> {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    returned.countDown();
+                })
+                .build());
+
+        /* The result times out while the handler is still blocked */
+        assertTimedOut(manager.executeCommand(new TestCommandSender(), "block"));
+        Assertions.assertEquals(1L, returned.getCount());
+
+        release.countDown();
+        Assertions.assertTrue(returned.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(interrupted.get());
+        watchdog.shutdown();
+    }
+
+    private static void assertTimedOut(final CompletableFuture<CommandResult<TestCommandSender>> future) {
+        final ExecutionException exception = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS)
+        );
+        Assertions.assertTrue(exception.getCause() instanceof CommandExecutionTimeoutException);
+    }
+
+}
@@ -0,0 +1,89 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.OrderedCommandExecutionCoordinator;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class OrderedCommandExecutionCoordinatorTest {
+
+    private static final int COMMANDS = 200;
+
+    private static CommandManager<TestCommandSender> manager;
+    private static final List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+    private static final List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeAll
+    static void setup() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> {
+            final Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        manager = createManager(OrderedCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                .withExecutor(executor)
+                .withSenderIdentity(sender -> sender.hasPermisison("first"))
+                .build());
+        manager.command(manager.commandBuilder("order", SimpleCommandMeta.empty())
+                .argument(IntegerArgument.of("index"))
+                .handler(c -> {
+                    final int index = c.get("index");
+                    (c.getSender().hasPermisison("first") ? first : second).add(index);
+                })
+                .build());
+    }
+
+    @Test
+    void testOrderPerSender() throws Exception {
+        final TestCommandSender firstSender = new TestCommandSender("first");
+        final TestCommandSender secondSender = new TestCommandSender();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) {
+            futures.add(manager.executeCommand(firstSender, "order " + i));
+            futures.add(manager.executeCommand(secondSender, "order " + i));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) {
+            expected.add(i);
+        }
+        Assertions.assertEquals(expected, first);
+        Assertions.assertEquals(expected, second);
+    }
+
+}
@@ -0,0 +1,145 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandExecutionHandler;
+import cloud.commandframework.execution.PriorityCommandExecutionCoordinator;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class PriorityCommandExecutionCoordinatorTest {
+
+    private static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Test
+    void testPriorityOrder() throws Exception {
+        final List<String> order = this.execute(Duration.ofMinutes(1L));
+        Assertions.assertEquals(Arrays.asList("staff", "console", "first", "second"), order);
+    }
+
+    @Test
+    void testAging() throws Exception {
+        final List<String> order = this.execute(Duration.ofNanos(1L));
+        Assertions.assertEquals(Arrays.asList("first", "second", "staff", "console"), order);
+    }
+
+    @Test
+    void testZeroAgingIntervalRejected() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> PriorityCommandExecutionCoordinator.newBuilder().withAgingInterval(Duration.ZERO)
+        );
+    }
+
+    @Test
+    void testWorkerHeldUntilHandlerCompletes() throws Exception {
+        final CommandManager<TestCommandSender> manager = createManager(
+                PriorityCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withExecutor(EXECUTOR)
+                        .withParallelism(1)
+                        .build()
+        );
+        final CompletableFuture<Void> pendingHandler = new CompletableFuture<>();
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        manager.command(manager.commandBuilder("pending", SimpleCommandMeta.empty())
+                .handler((CommandExecutionHandler.FutureCommandExecutionHandler<TestCommandSender>) c -> pendingHandler)
+                .build());
+        manager.command(manager.commandBuilder("record", SimpleCommandMeta.empty())
+                .handler(c -> order.add("record"))
+                .build());
+
+        final CompletableFuture<?> pending = manager.executeCommand(new TestCommandSender(), "pending");
+        final CompletableFuture<?> record = manager.executeCommand(new TestCommandSender(), "record");
+        Thread.sleep(50L);
+        Assertions.assertTrue(order.isEmpty());
+        Assertions.assertFalse(pending.isDone());
+
+        pendingHandler.complete(null);
+        CompletableFuture.allOf(pending, record).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(Collections.singletonList("record"), order);
+    }
+
+    private List<String> execute(final Duration agingInterval) throws Exception {
+        final TestCommandSender console = new TestCommandSender("console");
+        final CommandManager<TestCommandSender> manager = createManager(
+                PriorityCommandExecutionCoordinator.<TestCommandSender>newBuilder()
+                        .withExecutor(EXECUTOR)
+                        .withParallelism(1)
+                        .withAgingInterval(agingInterval)
+                        .withSenderPriority(sender -> sender.hasPermisison("console") ? 5 : 0)
+                        .build()
+        );
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        manager.command(manager.commandBuilder("block", SimpleCommandMeta.empty())
+                .handler(c -> {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build());
+        manager.command(manager.commandBuilder("record", SimpleCommandMeta.empty())
+                .argument(StringArgument.of("name"))
+                .handler(c -> order.add(c.get("name")))
+                .build());
+        manager.command(manager.commandBuilder("staff", SimpleCommandMeta.empty())
+                .meta(PriorityCommandExecutionCoordinator.META_PRIORITY, 10)
+                .handler(c -> order.add("staff"))
+                .build());
+
+        final TestCommandSender player = new TestCommandSender();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        /* Occupies the only worker, so that the other commands are queued */
+        futures.add(manager.executeCommand(player, "block"));
+        futures.add(manager.executeCommand(player, "record first"));
+        futures.add(manager.executeCommand(player, "record second"));
+        futures.add(manager.executeCommand(player, "staff"));
+        futures.add(manager.executeCommand(console, "record console"));
+
+        latch.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        return order;
+    }
+
+}
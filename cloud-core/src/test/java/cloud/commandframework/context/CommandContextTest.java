@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.keys.CloudKey;
+import cloud.commandframework.keys.SimpleCloudKey;
+import io.leangen.geantyref.TypeToken;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+class CommandContextTest {
+
+    @Test
+    void testSlotStorage() {
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+        final CloudKey<Integer> key = SimpleCloudKey.of("number", TypeToken.get(Integer.class));
+
+        context.store("number", 1);
+        context.store(1, argument.getKey(), 2);
+        Assertions.assertEquals(2, context.<Integer>get("number"));
+        Assertions.assertEquals(2, context.get(key));
+        Assertions.assertEquals(2, context.get(argument));
+        Assertions.assertEquals(Collections.singletonMap("number", 2), context.asMap());
+
+        context.store(key, 3);
+        Assertions.assertEquals(3, context.get(argument));
+
+        context.store(20, SimpleCloudKey.of("other", TypeToken.get(Integer.class)), 4);
+        context.store(1, SimpleCloudKey.of("another", TypeToken.get(Integer.class)), 5);
+        Assertions.assertEquals(3, context.get(argument));
+        Assertions.assertEquals(4, context.<Integer>get("other"));
+        Assertions.assertEquals(5, context.<Integer>get("another"));
+
+        context.remove("number");
+        Assertions.assertFalse(context.contains(key));
+        Assertions.assertFalse(context.getOptional(argument).isPresent());
+    }
+
+    @Test
+    void testArgumentSlots() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+        manager.command(manager.commandBuilder("slots").argument(argument));
+        Assertions.assertEquals(1, argument.getSlot());
+
+        final CommandContext<TestCommandSender> context = manager.executeCommand(new TestCommandSender(), "slots 5")
+                .join()
+                .getCommandContext();
+        Assertions.assertEquals(5, context.get(argument));
+        Assertions.assertEquals(5, context.<Integer>get("number"));
+
+        /* Values stored by name replace the parsed value */
+        context.store("number", 6);
+        Assertions.assertEquals(6, context.get(argument));
+        context.remove(argument.getKey());
+        Assertions.assertFalse(context.getOptional(argument).isPresent());
+
+        /* Arguments that are used at different positions are stored by key */
+        argument.assignSlot(2);
+        Assertions.assertEquals(-1, argument.getSlot());
+    }
+
+    @Test
+    void testRawInput() {
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+        context.setCommandInput(CommandInput.of("one two  three"));
+        Assertions.assertEquals("one two three", context.getRawInputJoined());
+
+        /* The token list is created once, and changes to it are visible to later calls */
+        Assertions.assertSame(context.getRawInput(), context.getRawInput());
+        context.getRawInput().removeLast();
+        Assertions.assertEquals("one two", context.getRawInputJoined());
+    }
+
+}
@@ -0,0 +1,87 @@
+//
+// MIT License
+//
+// Copyright (c) 2021 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import cloud.commandframework.internal.CommandInputTokenizer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandInputTest {
+
+    @Test
+    void testTokensMatchTokenizer() {
+        for (final String input : Arrays.asList("", " ", "one", "one two", "one  two", " one two ", "one two  ")) {
+            assertThat(new LinkedList<>(CommandInput.of(input)))
+                    .isEqualTo(new CommandInputTokenizer(input).tokenize());
+        }
+    }
+
+    @Test
+    void testCursor() {
+        final CommandInput commandInput = CommandInput.of("one  two three");
+        Assertions.assertEquals(3, commandInput.size());
+        Assertions.assertEquals("one", commandInput.peek());
+        commandInput.skip();
+        Assertions.assertEquals(5, commandInput.getCursor());
+
+        final CommandInput copy = commandInput.copy();
+        Assertions.assertEquals("two", commandInput.read());
+        Assertions.assertEquals("two three", copy.peekRemaining());
+        Assertions.assertEquals("three", commandInput.readRemaining());
+        Assertions.assertTrue(commandInput.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, commandInput::read);
+    }
+
+    @Test
+    void testAppendedTokens() {
+        final CommandInput commandInput = CommandInput.of("one ");
+        commandInput.add("two");
+        Assertions.assertEquals(3, commandInput.size());
+        Assertions.assertEquals("one  two", commandInput.copy().readRemaining());
+        commandInput.skip(2);
+        Assertions.assertEquals("two", commandInput.poll());
+        Assertions.assertNull(commandInput.poll());
+    }
+
+    @Test
+    void testRewind() {
+        final CommandInput commandInput = CommandInput.of("one two three");
+        commandInput.skip();
+        final CommandInput.Mark mark = commandInput.mark();
+        Assertions.assertEquals(4, mark.getCursor());
+
+        commandInput.readRemaining();
+        commandInput.add("four");
+        commandInput.rewind(mark);
+        Assertions.assertEquals(2, commandInput.size());
+        Assertions.assertEquals("two three", commandInput.peekRemaining());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommandInput.of("one").rewind(mark));
+    }
+
+}
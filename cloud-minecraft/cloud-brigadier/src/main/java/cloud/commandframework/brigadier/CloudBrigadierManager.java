@@ -60,21 +60,25 @@ import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -92,11 +96,21 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public final class CloudBrigadierManager<C, S> {
 
     private static final SuggestionProvider<?> DELEGATE_TO_CLOUD = (c, b) -> b.buildFuture();
+    /**
+     * Brigadier requests suggestions from every sibling node for the same input, so cloud suggestions are
+     * shared between requests with the same sender and input that are made within this window
+     */
+    private static final long SUGGESTION_MEMO_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
 
     private final Map<Class<?>, BrigadierMapping<C, ?, S>> mappers;
     private final Map<@NonNull Class<?>, @NonNull Supplier<@Nullable ArgumentType<?>>> defaultArgumentTypeSuppliers;
     private final Supplier<CommandContext<C>> dummyContextProvider;
     private final CommandManager<C> commandManager;
+    private final Map<SuggestionRequest, MemoizedSuggestions> suggestionMemo = new ConcurrentHashMap<>();
+    private final Map<ArgumentParser<C, ?>, Pair<ArgumentType<?>, SuggestionProvider<S>>> argumentCache =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<TranslationKey, Translation<S>> translationCache = new ConcurrentHashMap<>();
+    private volatile long translatedModificationCount = -1L;
     private Function<S, C> brigadierCommandSenderMapper;
     private Function<C, S> backwardsBrigadierCommandSenderMapper;
 
@@ -313,6 +327,7 @@ public final class CloudBrigadierManager<C, S> {
                 GenericTypeReflector.erase(argumentType.getType()),
                 pair.withNativeSuggestions(nativeSuggestions)
         );
+        this.invalidateTranslations();
     }
 
     /**
@@ -357,7 +372,7 @@ public final class CloudBrigadierManager<C, S> {
         final BrigadierMapping.BuilderImpl<C, K, S> builder = new BrigadierMapping.BuilderImpl<>();
         configurer.accept(builder);
         this.mappers.put(GenericTypeReflector.erase(parserType.getType()), builder.build());
-
+        this.invalidateTranslations();
     }
 
     /**
@@ -371,10 +386,29 @@ public final class CloudBrigadierManager<C, S> {
             final @NonNull Supplier<@Nullable ArgumentType<?>> supplier
     ) {
         this.defaultArgumentTypeSuppliers.put(clazz, supplier);
+        this.invalidateTranslations();
+    }
+
+    private void invalidateTranslations() {
+        this.argumentCache.clear();
+        this.translationCache.clear();
+    }
+
+    private @NonNull Pair<@NonNull ArgumentType<?>, @Nullable SuggestionProvider<S>> getArgument(
+            final @NonNull TypeToken<?> valueType,
+            final @NonNull ArgumentParser<C, ?> argumentParser
+    ) {
+        final Pair<ArgumentType<?>, SuggestionProvider<S>> cachedArgument = this.argumentCache.get(argumentParser);
+        if (cachedArgument != null) {
+            return cachedArgument;
+        }
+        final Pair<ArgumentType<?>, SuggestionProvider<S>> argument = this.resolveArgument(valueType, argumentParser);
+        this.argumentCache.put(argumentParser, argument);
+        return argument;
     }
 
     @SuppressWarnings("all")
-    private <T, K extends ArgumentParser<C, ?>> @Nullable Pair<@NonNull ArgumentType<?>, @Nullable SuggestionProvider<S>> getArgument(
+    private <T, K extends ArgumentParser<C, ?>> @NonNull Pair<@NonNull ArgumentType<?>, @Nullable SuggestionProvider<S>> resolveArgument(
             final @NonNull TypeToken<?> valueType,
             final @NonNull K argumentParser
     ) {
@@ -432,29 +466,16 @@ public final class CloudBrigadierManager<C, S> {
     ) {
         final CommandTree.Node<CommandArgument<C, ?>> node = this.commandManager
                 .getCommandTree().getNamedNode(cloudCommand.getArguments().get(0).getName());
-        final SuggestionProvider<S> provider = (context, builder) -> this.buildSuggestions(
-                context,
-                null, /* parent node, null for the literal command node root */
-                node.getValue(),
-                builder
-        );
-
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder
                 .<S>literal(label)
-                .requires(sender -> permissionChecker.test(sender, (CommandPermission) node.getNodeMeta()
-                        .getOrDefault(
-                                "permission",
-                                Permission.empty()
-                        )));
+                .requires(this.requirement(node, permissionChecker));
         if (forceRegister || (node.getValue() != null && node.getValue().getOwningCommand() != null)) {
             literalArgumentBuilder.executes(executor);
         }
         literalArgumentBuilder.executes(executor);
         final LiteralCommandNode<S> constructedRoot = literalArgumentBuilder.build();
-        for (final CommandTree.Node<CommandArgument<C, ?>> child : node.getChildren()) {
-            constructedRoot.addChild(this.constructCommandNode(forceRegister, child,
-                    permissionChecker, executor, provider
-            ).build());
+        for (final CommandNode<S> child : this.translateChildren(node, forceRegister, permissionChecker, executor, null)) {
+            constructedRoot.addChild(child);
         }
         return constructedRoot;
     }
@@ -477,26 +498,73 @@ public final class CloudBrigadierManager<C, S> {
             final @NonNull BiPredicate<@NonNull S, @NonNull CommandPermission> permissionChecker
     ) {
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder.<S>literal(root.getLiteral())
-                .requires(sender -> permissionChecker.test(
-                        sender,
-                        (CommandPermission) cloudCommand.getNodeMeta()
-                                .getOrDefault(
-                                        "permission",
-                                        Permission.empty()
-                                )
-                ));
+                .requires(this.requirement(cloudCommand, permissionChecker));
         if (cloudCommand.getValue() != null && cloudCommand.getValue().getOwningCommand() != null) {
             literalArgumentBuilder.executes(executor);
         }
         final LiteralCommandNode<S> constructedRoot = literalArgumentBuilder.build();
-        for (final CommandTree.Node<CommandArgument<C, ?>> child : cloudCommand.getChildren()) {
-            constructedRoot.addChild(this.constructCommandNode(false, child, permissionChecker,
-                    executor, suggestionProvider
-            ).build());
+        for (final CommandNode<S> child : this.translateChildren(cloudCommand, false, permissionChecker, executor,
+                suggestionProvider)) {
+            constructedRoot.addChild(child);
         }
         return constructedRoot;
     }
 
+    /**
+     * Translate the children of a cloud command node. The translation is cached until the command tree
+     * or the registered mappings change, so that the same command is only translated once even if it is
+     * registered under several labels, or registered again by the platform
+     *
+     * @param node               Cloud command node
+     * @param forceExecutor      Whether or not to force register an executor at every node
+     * @param permissionChecker  Permission checker
+     * @param executor           Brigadier command executor
+     * @param suggestionProvider Brigadier suggestions provider, or {@code null} to delegate to cloud
+     * @return Translated child nodes
+     */
+    private @NonNull List<@NonNull CommandNode<S>> translateChildren(
+            final CommandTree.@NonNull Node<CommandArgument<C, ?>> node,
+            final boolean forceExecutor,
+            final @NonNull BiPredicate<@NonNull S, @NonNull CommandPermission> permissionChecker,
+            final com.mojang.brigadier.@NonNull Command<S> executor,
+            final @Nullable SuggestionProvider<S> suggestionProvider
+    ) {
+        final long modificationCount = this.commandManager.getCommandTree().getModificationCount();
+        if (this.translatedModificationCount != modificationCount) {
+            this.translationCache.clear();
+            this.translatedModificationCount = modificationCount;
+        }
+        final TranslationKey key = new TranslationKey(node, forceExecutor, permissionChecker);
+        final Translation<S> translation = this.translationCache.get(key);
+        if (translation != null && translation.executor == executor && translation.suggestionProvider == suggestionProvider) {
+            return translation.children;
+        }
+        final SuggestionProvider<S> provider = suggestionProvider != null ? suggestionProvider
+                : (context, builder) -> this.buildSuggestions(
+                        context,
+                        null, /* parent node, null for the literal command node root */
+                        node.getValue(),
+                        builder
+                );
+        final List<CommandNode<S>> children = new ArrayList<>(node.getChildren().size());
+        for (final CommandTree.Node<CommandArgument<C, ?>> child : node.getChildren()) {
+            children.add(this.constructCommandNode(forceExecutor, child, permissionChecker, executor, provider).build());
+        }
+        final List<CommandNode<S>> translatedChildren = Collections.unmodifiableList(children);
+        this.translationCache.put(key, new Translation<>(executor, suggestionProvider, translatedChildren));
+        return translatedChildren;
+    }
+
+    private @NonNull Predicate<S> requirement(
+            final CommandTree.@NonNull Node<CommandArgument<C, ?>> node,
+            final @NonNull BiPredicate<@NonNull S, @NonNull CommandPermission> permissionChecker
+    ) {
+        return sender -> permissionChecker.test(
+                sender,
+                (CommandPermission) node.getNodeMeta().getOrDefault("permission", Permission.empty())
+        );
+    }
+
     private @NonNull ArgumentBuilder<S, ?> constructCommandNode(
             final boolean forceExecutor,
             final CommandTree.@NonNull Node<CommandArgument<C, ?>> root,
@@ -525,14 +593,7 @@ public final class CloudBrigadierManager<C, S> {
                 final ArgumentBuilder<S, ?> fragmentBuilder = RequiredArgumentBuilder
                         .<S, Object>argument((String) names[i], (ArgumentType<Object>) pair.getFirst())
                         .suggests(provider)
-                        .requires(sender -> permissionChecker.test(
-                                sender,
-                                (CommandPermission) root.getNodeMeta()
-                                        .getOrDefault(
-                                                "permission",
-                                                Permission.empty()
-                                        )
-                        ));
+                        .requires(this.requirement(root, permissionChecker));
                 argumentBuilders[i] = fragmentBuilder;
 
                 if (forceExecutor || ((i == parsers.length - 1) && (root.isLeaf() || !root.getValue().isRequired()))) {
@@ -555,11 +616,7 @@ public final class CloudBrigadierManager<C, S> {
         final ArgumentBuilder<S, ?> argumentBuilder;
         if (root.getValue() instanceof StaticArgument) {
             argumentBuilder = LiteralArgumentBuilder.<S>literal(root.getValue().getName())
-                    .requires(sender -> permissionChecker.test(sender, (CommandPermission) root.getNodeMeta()
-                            .getOrDefault(
-                                    "permission",
-                                    Permission.empty()
-                            )))
+                    .requires(this.requirement(root, permissionChecker))
                     .executes(executor);
         } else {
             // Register argument
@@ -577,14 +634,7 @@ public final class CloudBrigadierManager<C, S> {
             argumentBuilder = RequiredArgumentBuilder
                     .<S, Object>argument(root.getValue().getName(), (ArgumentType<Object>) pair.getFirst())
                     .suggests(provider)
-                    .requires(sender -> permissionChecker.test(
-                            sender,
-                            (CommandPermission) root.getNodeMeta()
-                                    .getOrDefault(
-                                            "permission",
-                                            Permission.empty()
-                                    )
-                    ));
+                    .requires(this.requirement(root, permissionChecker));
         }
         if (forceExecutor || root.isLeaf() || !root.getValue().isRequired()) {
             argumentBuilder.executes(executor);
@@ -622,48 +672,154 @@ public final class CloudBrigadierManager<C, S> {
         }
 
         /* Remove namespace */
-        final String leading = command.split(" ")[0];
-        if (leading.contains(":")) {
-            command = command.substring(leading.split(":")[0].length() + 1);
+        final int leadingEnd = command.indexOf(' ');
+        final int namespaceEnd = command.indexOf(':');
+        if (namespaceEnd != -1 && (leadingEnd == -1 || namespaceEnd < leadingEnd)) {
+            command = command.substring(namespaceEnd + 1);
         }
 
-        final List<String> suggestionsUnfiltered = this.commandManager.suggest(
-                commandContext.getSender(),
-                command
-        );
+        return this.memoizedSuggestions(commandContext.getSender(), command).thenApply(suggestionsUnfiltered -> {
+            /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
+            final List<String> suggestions = new ArrayList<>(suggestionsUnfiltered);
+            if (parentNode != null) {
+                suggestions.removeIf(parentNode::hasLiteralChild);
+            }
+
+            SuggestionsBuilder suggestionsBuilder = builder;
+
+            final int lastIndexOfSpaceInRemainingString = builder.getRemaining().lastIndexOf(' ');
+            if (lastIndexOfSpaceInRemainingString != -1) {
+                suggestionsBuilder = builder.createOffset(builder.getStart() + lastIndexOfSpaceInRemainingString + 1);
+            }
 
-        /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
-        final List<String> suggestions = new ArrayList<>(suggestionsUnfiltered);
-        if (parentNode != null) {
-            final Set<String> siblingLiterals = parentNode.getChildren().stream()
-                    .map(CommandTree.Node::getValue)
-                    .flatMap(arg -> (arg instanceof StaticArgument)
-                            ? ((StaticArgument<C>) arg).getAliases().stream() : Stream.empty())
-                    .collect(Collectors.toSet());
+            for (final String suggestion : suggestions) {
+                String tooltip = argument.getName();
+                if (!(argument instanceof StaticArgument)) {
+                    if (argument.isRequired()) {
+                        tooltip = '<' + tooltip + '>';
+                    } else {
+                        tooltip = '[' + tooltip + ']';
+                    }
+                }
+                suggestionsBuilder = suggestionsBuilder.suggest(suggestion, new LiteralMessage(tooltip));
+            }
+
+            return suggestionsBuilder.build();
+        });
+    }
 
-            suggestions.removeIf(siblingLiterals::contains);
+    private @NonNull CompletableFuture<@NonNull List<@NonNull String>> memoizedSuggestions(
+            final @NonNull C sender,
+            final @NonNull String command
+    ) {
+        final long now = System.nanoTime();
+        final SuggestionRequest request = new SuggestionRequest(sender, command);
+        final MemoizedSuggestions memoizedSuggestions = this.suggestionMemo.get(request);
+        if (memoizedSuggestions != null && now - memoizedSuggestions.created < SUGGESTION_MEMO_NANOS) {
+            return memoizedSuggestions.suggestions;
         }
+        this.suggestionMemo.values().removeIf(memo -> now - memo.created >= SUGGESTION_MEMO_NANOS);
+        final CompletableFuture<List<String>> suggestions = this.commandManager.suggestFuture(sender, command);
+        this.suggestionMemo.put(request, new MemoizedSuggestions(suggestions, now));
+        return suggestions;
+    }
+
+
+    private static final class SuggestionRequest {
 
-        SuggestionsBuilder suggestionsBuilder = builder;
+        private final Object sender;
+        private final String input;
 
-        final int lastIndexOfSpaceInRemainingString = builder.getRemaining().lastIndexOf(' ');
-        if (lastIndexOfSpaceInRemainingString != -1) {
-            suggestionsBuilder = builder.createOffset(builder.getStart() + lastIndexOfSpaceInRemainingString + 1);
+        private SuggestionRequest(final @NonNull Object sender, final @NonNull String input) {
+            this.sender = sender;
+            this.input = input;
         }
 
-        for (final String suggestion : suggestions) {
-            String tooltip = argument.getName();
-            if (!(argument instanceof StaticArgument)) {
-                if (argument.isRequired()) {
-                    tooltip = '<' + tooltip + '>';
-                } else {
-                    tooltip = '[' + tooltip + ']';
-                }
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SuggestionRequest that = (SuggestionRequest) o;
+            return this.sender.equals(that.sender) && this.input.equals(that.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.sender, this.input);
+        }
+
+    }
+
+    private static final class TranslationKey {
+
+        private final CommandTree.Node<?> node;
+        private final boolean forceExecutor;
+        private final BiPredicate<?, ?> permissionChecker;
+
+        private TranslationKey(
+                final CommandTree.@NonNull Node<?> node,
+                final boolean forceExecutor,
+                final @NonNull BiPredicate<?, ?> permissionChecker
+        ) {
+            this.node = node;
+            this.forceExecutor = forceExecutor;
+            this.permissionChecker = permissionChecker;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
             }
-            suggestionsBuilder = suggestionsBuilder.suggest(suggestion, new LiteralMessage(tooltip));
+            final TranslationKey that = (TranslationKey) o;
+            return this.node == that.node
+                    && this.forceExecutor == that.forceExecutor
+                    && this.permissionChecker == that.permissionChecker;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(this.node) + Boolean.hashCode(this.forceExecutor))
+                    + System.identityHashCode(this.permissionChecker);
+        }
+
+    }
+
+    private static final class Translation<S> {
+
+        private final com.mojang.brigadier.Command<S> executor;
+        private final SuggestionProvider<S> suggestionProvider;
+        private final List<CommandNode<S>> children;
+
+        private Translation(
+                final com.mojang.brigadier.@NonNull Command<S> executor,
+                final @Nullable SuggestionProvider<S> suggestionProvider,
+                final @NonNull List<@NonNull CommandNode<S>> children
+        ) {
+            this.executor = executor;
+            this.suggestionProvider = suggestionProvider;
+            this.children = children;
+        }
+
+    }
+
+    private static final class MemoizedSuggestions {
+
+        private final CompletableFuture<List<String>> suggestions;
+        private final long created;
+
+        private MemoizedSuggestions(final @NonNull CompletableFuture<List<String>> suggestions, final long created) {
+            this.suggestions = suggestions;
+            this.created = created;
         }
 
-        return suggestionsBuilder.buildFuture();
     }
 
 }
@@ -27,9 +27,11 @@ import cloud.commandframework.Command;
 import cloud.commandframework.brigadier.CloudBrigadierManager;
 import cloud.commandframework.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.permission.CommandPermission;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import java.util.Collections;
+import java.util.function.BiPredicate;
 import me.lucko.commodore.Commodore;
 import me.lucko.commodore.CommodoreProvider;
 import org.bukkit.Bukkit;
@@ -43,6 +45,8 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
     private final BukkitCommandManager<C> commandManager;
     private final CloudBrigadierManager<C, Object> brigadierManager;
     private final Commodore commodore;
+    private final BiPredicate<Object, CommandPermission> permissionChecker;
+    private final com.mojang.brigadier.Command<Object> executor = o -> 1;
 
     CloudCommodoreManager(final @NonNull BukkitCommandManager<C> commandManager)
             throws BukkitCommandManager.BrigadierFailureException {
@@ -52,6 +56,10 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
         }
         this.commandManager = commandManager;
         this.commodore = CommodoreProvider.getCommodore(commandManager.getOwningPlugin());
+        this.permissionChecker = (o, p) -> {
+            final CommandSender sender = this.commodore.getBukkitSender(o);
+            return this.commandManager.hasPermission(this.commandManager.getCommandSenderMapper().apply(sender), p);
+        };
         this.brigadierManager = new CloudBrigadierManager<>(commandManager, () -> new CommandContext<>(
                 commandManager.getCommandSenderMapper().apply(Bukkit.getConsoleSender()),
                 commandManager
@@ -83,10 +91,7 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
             final @NonNull Command<C> command
     ) {
         final LiteralCommandNode<?> literalCommandNode = this.brigadierManager
-                .createLiteralCommandNode(label, command, (o, p) -> {
-                    final CommandSender sender = this.commodore.getBukkitSender(o);
-                    return this.commandManager.hasPermission(this.commandManager.getCommandSenderMapper().apply(sender), p);
-                }, false, o -> 1);
+                .createLiteralCommandNode(label, command, this.permissionChecker, false, this.executor);
         final CommandNode existingNode = this.commodore.getDispatcher().findNode(Collections.singletonList(label));
         if (existingNode != null) {
             this.mergeChildren(existingNode, literalCommandNode);
@@ -27,6 +27,8 @@ import cloud.commandframework.bukkit.BukkitPluginRegistrationHandler;
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -64,10 +66,21 @@ final class AsyncCommandSuggestionsListener<C> implements Listener {
         final C cloudSender = this.paperCommandManager.getCommandSenderMapper().apply(sender);
         final String inputBuffer = this.paperCommandManager.stripNamespace(event.getBuffer());
 
-        final List<String> suggestions = new ArrayList<>(this.paperCommandManager.suggest(
-                cloudSender,
-                inputBuffer
-        ));
+        List<String> suggestions;
+        try {
+            /* Requests are superseded by newer requests of the same sender when a suggestion coalescer is set */
+            suggestions = new ArrayList<>(this.paperCommandManager.suggestFuture(
+                    cloudSender,
+                    inputBuffer
+            ).join());
+        } catch (final CancellationException ignored) {
+            suggestions = new ArrayList<>();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
 
         event.setCompletions(suggestions);
         event.setHandled(true);
@@ -43,9 +43,14 @@ class PaperBrigadierListener<C> implements Listener {
 
     private final CloudBrigadierManager<C, BukkitBrigadierCommandSource> brigadierManager;
     private final PaperCommandManager<C> paperCommandManager;
+    private final BiPredicate<BukkitBrigadierCommandSource, CommandPermission> permissionChecker;
 
     PaperBrigadierListener(final @NonNull PaperCommandManager<C> paperCommandManager) {
         this.paperCommandManager = paperCommandManager;
+        this.permissionChecker = (s, p) -> {
+            final C sender = this.paperCommandManager.getCommandSenderMapper().apply(s.getBukkitSender());
+            return this.paperCommandManager.hasPermission(sender, p);
+        };
         this.brigadierManager = new CloudBrigadierManager<>(this.paperCommandManager, () -> new CommandContext<>(
                 this.paperCommandManager.getCommandSenderMapper().apply(Bukkit.getConsoleSender()),
                 this.paperCommandManager
@@ -88,16 +93,12 @@ class PaperBrigadierListener<C> implements Listener {
         if (node == null) {
             return;
         }
-        final BiPredicate<BukkitBrigadierCommandSource, CommandPermission> permissionChecker = (s, p) -> {
-            final C sender = this.paperCommandManager.getCommandSenderMapper().apply(s.getBukkitSender());
-            return this.paperCommandManager.hasPermission(sender, p);
-        };
         event.setLiteral(this.brigadierManager.createLiteralCommandNode(
                 node,
                 event.getLiteral(),
                 event.getBrigadierCommand(),
                 event.getBrigadierCommand(),
-                permissionChecker
+                this.permissionChecker
         ));
     }
 